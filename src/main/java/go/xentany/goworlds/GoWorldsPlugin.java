@@ -1,28 +1,64 @@
 package go.xentany.goworlds;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import go.xentany.goworlds.command.GoWorldsCommand;
+import go.xentany.goworlds.config.Settings;
 import go.xentany.goworlds.config.YamlConfigService;
 import go.xentany.goworlds.locale.Messages;
+import go.xentany.goworlds.world.adapter.bukkit.autoload.AutoloadPipeline;
 import go.xentany.goworlds.world.adapter.bukkit.generation.applier.BuiltinWorldGenerationApplier;
 import go.xentany.goworlds.world.adapter.bukkit.generation.applier.CompositeWorldGenerationApplier;
 import go.xentany.goworlds.world.adapter.bukkit.generation.applier.PluginWorldGenerationApplier;
+import go.xentany.goworlds.world.adapter.bukkit.governor.WorldResourceGovernor;
+import go.xentany.goworlds.world.adapter.bukkit.hibernation.IdleWorldHibernator;
+import go.xentany.goworlds.world.adapter.bukkit.index.BukkitLoadedWorlds;
+import go.xentany.goworlds.world.adapter.bukkit.pool.BukkitWorldPools;
 import go.xentany.goworlds.world.adapter.bukkit.service.BukkitWorldsService;
 import go.xentany.goworlds.world.adapter.filesystem.NioWorldsDirectory;
+import go.xentany.goworlds.world.adapter.storage.JournalWorldsRepository;
+import go.xentany.goworlds.world.adapter.storage.SqliteWorldsRepository;
+import go.xentany.goworlds.world.adapter.storage.YamlSchemaMigrator;
+import go.xentany.goworlds.world.adapter.storage.WriteBehindWorldsRepository;
 import go.xentany.goworlds.world.adapter.storage.YamlWorldsRepository;
+import go.xentany.goworlds.world.adapter.storage.YamlWorldsWatcher;
+import go.xentany.goworlds.world.domain.WorldLoadPriority;
+import go.xentany.goworlds.world.domain.WorldRecordDiff;
+import go.xentany.goworlds.world.domain.WorldUnloadMode;
+import go.xentany.goworlds.world.port.LoadedWorlds;
+import go.xentany.goworlds.world.port.WorldPools;
 import go.xentany.goworlds.world.port.WorldsRepository;
+import go.xentany.goworlds.world.port.WorldsService;
 import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
+import org.bukkit.event.server.ServerLoadEvent;
+import org.bukkit.plugin.ServicePriority;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
 import java.nio.file.Files;
-import java.util.ArrayList;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 public final class GoWorldsPlugin extends JavaPlugin implements Listener {
 
   private Logger logger;
   private WorldsRepository repository;
+  private ExecutorService workers;
+  private AutoloadPipeline autoload;
+  private YamlWorldsWatcher watcher;
+  private IdleWorldHibernator hibernator;
+  private WorldResourceGovernor governor;
+  private BukkitWorldPools pools;
+  private BukkitWorldsService service;
+  private boolean autoloadStarted;
 
   @Override
   public void onEnable() {
@@ -31,27 +67,67 @@ public final class GoWorldsPlugin extends JavaPlugin implements Listener {
     try {
       Files.createDirectories(getDataFolder().toPath());
 
-      final var directory = new NioWorldsDirectory(Bukkit.getWorldContainer().toPath());
+      final var yaml = new YamlConfigService(logger);
+      final var settingsFile = getDataFolder().toPath().resolve("config.yml");
+      final var settings = yaml.load(settingsFile, Settings.class, Settings::new);
+
+      yaml.save(settingsFile, settings);
+
+      workers = Executors.newFixedThreadPool(Math.max(1, settings.workers.threads), new ThreadFactoryBuilder()
+          .setNameFormat("GoWorlds Worker #%d")
+          .setDaemon(true)
+          .build());
+
+      final var directory = new NioWorldsDirectory(Bukkit.getWorldContainer().toPath(),
+          getDataFolder().toPath().resolve(settings.clone.templatesFolder),
+          getDataFolder().toPath().resolve(settings.snapshots.folder), workers);
+
+      directory.purgeTrash().thenAccept(ok -> {
+        if (!ok) {
+          logger.warn("Failed to purge leftovers of deleted worlds");
+        }
+      });
+
       final var generatorApplier = new CompositeWorldGenerationApplier(
           List.of(
-              new BuiltinWorldGenerationApplier(logger),
+              new BuiltinWorldGenerationApplier(logger, settings),
               new PluginWorldGenerationApplier()
           )
       );
 
       final var file = getDataFolder().toPath().resolve("worlds.yml");
-      final var yaml = new YamlConfigService(logger);
 
       Messages.initialize(this, yaml);
 
-      repository = new YamlWorldsRepository(file, yaml);
+      final var loadedWorlds = new BukkitLoadedWorlds();
+
+      getServer().getPluginManager().registerEvents(loadedWorlds, this);
+
+      final var storage = storage(settings, file, yaml, loadedWorlds);
+
+      repository = settings.storage.writeBehind
+          ? new WriteBehindWorldsRepository(storage, logger, workers, settings.storage.debounceMillis)
+          : storage;
       repository.load();
 
-      final var service = new BukkitWorldsService(directory, logger, repository, generatorApplier);
+      if (!(storage instanceof YamlWorldsRepository)) {
+        final var migrated = YamlSchemaMigrator.migrate(file, yaml, repository);
+
+        if (migrated > 0) {
+          logger.info("Migrated {} worlds from {}", migrated, file.getFileName());
+        }
+      }
+
+      final var mainThread = getServer().getScheduler().getMainThreadExecutor(this);
+      service = new BukkitWorldsService(directory, logger, repository, loadedWorlds, generatorApplier,
+          workers, mainThread, task -> getServer().getScheduler().runTaskTimer(this, task, 1L, 1L), settings);
       final var root = getCommand("goworlds");
 
+      pools = new BukkitWorldPools(this, logger, service, directory, workers, settings);
+
       if (root != null) {
-        final var executor = new GoWorldsCommand(service);
+        final var source = storage instanceof final YamlWorldsRepository yamlStorage ? yamlStorage : null;
+        final var executor = new GoWorldsCommand(service, pools, mainThread, () -> reload(source), settings);
 
         root.setExecutor(executor);
         root.setTabCompleter(executor);
@@ -59,20 +135,81 @@ public final class GoWorldsPlugin extends JavaPlugin implements Listener {
         logger.warn("Command 'goworlds' is not defined in plugin.yml");
       }
 
-      var records = new ArrayList<>(repository.worlds(true, true));
-      int ok = 0;
+      if (settings.storage.watch && storage instanceof final YamlWorldsRepository yamlStorage) {
+        final var autoloadAdded = settings.storage.watchAutoload;
+
+        watcher = new YamlWorldsWatcher(yamlStorage, logger, workers, settings.storage.watchDebounceMillis, diff -> {
+          if (!autoloadAdded) {
+            return;
+          }
+
+          for (final var record : diff.added()) {
+            if (record.priority().autoloads()) {
+              service.loadWorldAsync(record).thenAccept(loaded -> {
+                if (!loaded) {
+                  logger.warn("Failed to load newly declared world: {}", record.name());
+                }
+              });
+            }
+          }
+        });
+        watcher.start();
+      }
+
+      var critical = 0;
+      var criticalLoaded = 0;
+
+      for (final var record : repository.worlds(true, true)) {
+        if (record.priority() != WorldLoadPriority.CRITICAL) {
+          continue;
+        }
+
+        critical++;
 
-      for (final var record : records) {
         try {
           if (service.loadWorld(record)) {
-            ok++;
+            criticalLoaded++;
           }
-        } catch (final Throwable t) {
-          logger.warn("Autoload failed: {}", record.name(), t);
+        } catch (final Throwable throwable) {
+          logger.warn("Autoload failed: {}", record.name(), throwable);
+        }
+      }
+
+      logger.info("Loaded critical worlds: {}/{}", criticalLoaded, critical);
+
+      if (settings.hibernation.enabled) {
+        var mode = WorldUnloadMode.fromName(settings.hibernation.mode);
+
+        if (mode == null) {
+          logger.warn("Unknown hibernation mode '{}', falling back to save", settings.hibernation.mode);
+
+          mode = WorldUnloadMode.SAVE;
         }
+
+        hibernator = new IdleWorldHibernator(this, logger, service, settings.hibernation.idleSeconds, mode);
+
+        getServer().getPluginManager().registerEvents(hibernator, this);
+        hibernator.start();
+      }
+
+      if (settings.governor.enabled) {
+        governor = new WorldResourceGovernor(this, logger, service, pools, settings.governor.maxLoadedWorlds,
+            settings.governor.maxLoadedChunks, settings.governor.checkIntervalSeconds);
+
+        getServer().getPluginManager().registerEvents(governor, this);
+        governor.start();
       }
 
-      logger.info("Autoloaded worlds: {}/{}", ok, records.size());
+      getServer().getPluginManager().registerEvents(pools, this);
+      pools.start();
+
+      getServer().getServicesManager().register(WorldsService.class, service, this, ServicePriority.Normal);
+      getServer().getServicesManager().register(WorldPools.class, pools, this, ServicePriority.Normal);
+
+      autoload = new AutoloadPipeline(this, logger, service, directory, workers,
+          settings.autoload.tickBudgetMillis, settings.autoload.progressInterval);
+
+      getServer().getPluginManager().registerEvents(this, this);
     } catch (final Exception exception) {
       logger.error("Failed to enable plugin: {}", exception.getMessage(), exception);
 
@@ -80,17 +217,112 @@ public final class GoWorldsPlugin extends JavaPlugin implements Listener {
     }
   }
 
+  private @NotNull WorldsRepository storage(final @NotNull Settings settings,
+                                            final @NotNull Path file,
+                                            final @NotNull YamlConfigService yaml,
+                                            final @NotNull LoadedWorlds loadedWorlds) {
+    final var folder = getDataFolder().toPath();
+
+    return switch (settings.storage.backend.toLowerCase(Locale.ROOT)) {
+      case "journal" -> new JournalWorldsRepository(folder.resolve("worlds.snapshot"), folder.resolve("worlds.journal"),
+          logger, loadedWorlds, settings.storage.journalCompactionThreshold);
+      case "sqlite" -> new SqliteWorldsRepository(folder.resolve("worlds.db"), logger, loadedWorlds);
+      case "yaml" -> new YamlWorldsRepository(file, yaml, loadedWorlds, logger, settings.storage.watch);
+      default -> {
+        logger.warn("Unknown storage backend '{}', falling back to yaml", settings.storage.backend);
+
+        yield new YamlWorldsRepository(file, yaml, loadedWorlds, logger, settings.storage.watch);
+      }
+    };
+  }
+
+  private @NotNull CompletableFuture<WorldRecordDiff> reload(final @Nullable YamlWorldsRepository source) {
+    return CompletableFuture.supplyAsync(() -> {
+      repository.flush();
+
+      final var catalog = Messages.read();
+      final var diff = source != null ? source.reload() : WorldRecordDiff.EMPTY;
+
+      Messages.publish(catalog);
+
+      if (!diff.isEmpty()) {
+        logger.info("Reloaded worlds: {} added, {} removed, {} changed",
+            diff.added().size(), diff.removed().size(), diff.changed().size());
+      }
+
+      return diff;
+    }, workers);
+  }
+
+  @EventHandler
+  public void onServerLoad(final @NotNull ServerLoadEvent event) {
+    if (autoload == null || autoloadStarted) {
+      return;
+    }
+
+    autoloadStarted = true;
+    autoload.start(repository.worlds(true, true).stream()
+        .filter(record -> record.priority() != WorldLoadPriority.CRITICAL)
+        .toList());
+  }
 
   @Override
   public void onDisable() {
+    getServer().getServicesManager().unregisterAll(this);
+
+    if (autoload != null) {
+      autoload.cancel();
+    }
+
+    if (watcher != null) {
+      watcher.close();
+    }
+
+    if (hibernator != null) {
+      hibernator.cancel();
+    }
+
+    if (governor != null) {
+      governor.cancel();
+    }
+
+    if (pools != null) {
+      pools.cancel();
+    }
+
+    if (service != null) {
+      service.cancel();
+    }
+
+    if (workers != null) {
+      workers.shutdown();
+
+      try {
+        if (!workers.awaitTermination(10L, TimeUnit.SECONDS)) {
+          workers.shutdownNow();
+        }
+      } catch (final InterruptedException exception) {
+        workers.shutdownNow();
+        Thread.currentThread().interrupt();
+      }
+    }
+
     if (repository != null) {
       try {
-        repository.save();
+        repository.flush();
       } catch (final Exception exception) {
         if (logger != null) {
           logger.warn("Failed to save worlds.yml on shutdown", exception);
         }
       }
+
+      try {
+        repository.close();
+      } catch (final Exception exception) {
+        if (logger != null) {
+          logger.warn("Failed to close worlds storage", exception);
+        }
+      }
     }
   }
 }
\ No newline at end of file
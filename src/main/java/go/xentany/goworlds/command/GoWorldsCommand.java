@@ -3,11 +3,15 @@ package go.xentany.goworlds.command;
 import go.xentany.goworlds.command.engine.CommandAction;
 import go.xentany.goworlds.command.engine.CommandContext;
 import go.xentany.goworlds.command.engine.CommandRouter;
+import go.xentany.goworlds.config.Settings;
 import go.xentany.goworlds.locale.MessageKey;
 import go.xentany.goworlds.locale.Messages;
 import go.xentany.goworlds.world.domain.WorldEnvironment;
 import go.xentany.goworlds.world.domain.WorldGenerator;
-import go.xentany.goworlds.world.domain.WorldRecord;
+import go.xentany.goworlds.world.domain.WorldOperation;
+import go.xentany.goworlds.world.domain.WorldRecordDiff;
+import go.xentany.goworlds.world.domain.WorldUnloadMode;
+import go.xentany.goworlds.world.port.WorldPools;
 import go.xentany.goworlds.world.port.WorldsService;
 import org.bukkit.Bukkit;
 import org.bukkit.command.Command;
@@ -19,18 +23,39 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 public final class GoWorldsCommand implements CommandExecutor, TabCompleter {
 
   private static final Pattern WORLD_NAME_PATTERN = Pattern.compile("^[a-z0-9/._-]+$");
+  private static final int COMPLETION_LIMIT = 64;
+  private static final Pattern SNAPSHOT_NAME_PATTERN = Pattern.compile("^[a-z0-9._-]+$");
+  private static final String DEFAULT_SNAPSHOT = "default";
+  private static final List<String> UNLOAD_MODES = List.of("save", "discard", "drain");
+  private static final List<String> HIBERNATE_VALUES = List.of("true", "false");
 
   private final WorldsService service;
+  private final WorldPools pools;
+  private final Executor mainThread;
+  private final Supplier<CompletableFuture<WorldRecordDiff>> reload;
+  private final int listPageSize;
   private final CommandRouter router;
 
-  public GoWorldsCommand(final @NotNull WorldsService service) {
+  public GoWorldsCommand(final @NotNull WorldsService service,
+                         final @NotNull WorldPools pools,
+                         final @NotNull Executor mainThread,
+                         final @NotNull Supplier<CompletableFuture<WorldRecordDiff>> reload,
+                         final @NotNull Settings settings) {
     this.service = service;
+    this.pools = Objects.requireNonNull(pools, "pools");
+    this.mainThread = Objects.requireNonNull(mainThread, "mainThread");
+    this.reload = Objects.requireNonNull(reload, "reload");
+    this.listPageSize = Math.max(1, settings.commands.listPageSize);
     this.router = build();
   }
 
@@ -39,23 +64,11 @@ public final class GoWorldsCommand implements CommandExecutor, TabCompleter {
     final var defaultGenerator = WorldGenerator.NORMAL.name();
 
     return new CommandRouter()
-        .register(new CommandAction("list", Messages.get(MessageKey.USAGE_LIST), context -> {
-          final var records = new ArrayList<>(repository.worlds(true, true));
-          final var sender = context.sender();
-
-          Messages.send(sender, MessageKey.LIST_HEADER, Messages.vars("count", records.size()));
-
-          for (final var record : records) {
-            final var loaded = Bukkit.getWorld(record.name()) != null;
+        .register(new CommandAction("list", Messages.get(MessageKey.USAGE_LIST), this::list, context -> {
+          final var count = context.arity();
 
-            Messages.send(sender, MessageKey.LIST_ENTRY, Messages.vars(
-                "name", record.name(),
-                "environment", record.environment().name(),
-                "generator", record.generator(),
-                "loaded", loaded
-            ));
-          }
-        }, context -> List.of(), 0))
+          return count == 0 ? List.of() : completions(context.argument(count - 1), WorldListQuery.OPTIONS, option -> option);
+        }, 0))
         .register(new CommandAction("create", Messages.get(MessageKey.USAGE_CREATE), context -> {
           final var sender = context.sender();
           final var name = context.argument(0);
@@ -67,10 +80,9 @@ public final class GoWorldsCommand implements CommandExecutor, TabCompleter {
           }
 
           if (!WORLD_NAME_PATTERN.matcher(name).matches()) {
-            Messages.send(sender, MessageKey.COMMON_WORLD_NAME_INVALID, Messages.vars(
+            Messages.send(sender, MessageKey.COMMON_WORLD_NAME_INVALID,
                 "name", name,
-                "pattern", "[a-z0-9/._-]+"
-            ));
+                "pattern", "[a-z0-9/._-]+");
 
             return;
           }
@@ -79,17 +91,17 @@ public final class GoWorldsCommand implements CommandExecutor, TabCompleter {
           final var generator = Optional.ofNullable(context.argument(2))
               .filter(input -> !input.isBlank())
               .orElse(defaultGenerator);
-          final var created = service.createWorld(name, environment, generator);
 
-          if (created.isPresent()) {
-            Messages.send(sender, MessageKey.CREATE_SUCCESS, Messages.vars(
-                "name", name,
-                "environment", environment.name(),
-                "generator", generator
-            ));
-          } else {
-            Messages.send(sender, MessageKey.CREATE_FAIL, Messages.vars("name", name));
-          }
+          service.createWorldAsync(name, environment, generator).thenAcceptAsync(created -> {
+            if (created.isPresent()) {
+              Messages.send(sender, MessageKey.CREATE_SUCCESS,
+                  "name", name,
+                  "environment", environment.name(),
+                  "generator", generator);
+            } else {
+              Messages.send(sender, MessageKey.CREATE_FAIL, "name", name);
+            }
+          }, mainThread);
         }, this::options, 2))
         .register(new CommandAction("import", Messages.get(MessageKey.USAGE_IMPORT), context -> {
           final var sender = context.sender();
@@ -102,10 +114,9 @@ public final class GoWorldsCommand implements CommandExecutor, TabCompleter {
           }
 
           if (!WORLD_NAME_PATTERN.matcher(name).matches()) {
-            Messages.send(sender, MessageKey.COMMON_WORLD_NAME_INVALID, Messages.vars(
+            Messages.send(sender, MessageKey.COMMON_WORLD_NAME_INVALID,
                 "name", name,
-                "pattern", "[a-z0-9/._-]+"
-            ));
+                "pattern", "[a-z0-9/._-]+");
 
             return;
           }
@@ -114,18 +125,54 @@ public final class GoWorldsCommand implements CommandExecutor, TabCompleter {
           final var generator = Optional.ofNullable(context.argument(2))
               .filter(input -> !input.isBlank())
               .orElse(defaultGenerator);
-          final var imported = service.importWorld(name, environment, generator);
 
-          if (imported.isPresent()) {
-            Messages.send(sender, MessageKey.IMPORT_SUCCESS, Messages.vars(
-                "name", name,
-                "environment", environment.name(),
-                "generator", generator
-            ));
-          } else {
-            Messages.send(sender, MessageKey.IMPORT_FAIL, Messages.vars("name", name));
-          }
+          service.importWorldAsync(name, environment, generator).thenAcceptAsync(imported -> {
+            if (imported.isPresent()) {
+              Messages.send(sender, MessageKey.IMPORT_SUCCESS,
+                  "name", name,
+                  "environment", environment.name(),
+                  "generator", generator);
+            } else {
+              Messages.send(sender, MessageKey.IMPORT_FAIL, "name", name);
+            }
+          }, mainThread);
         }, this::options, 2))
+        .register(new CommandAction("clone", Messages.get(MessageKey.USAGE_CLONE), context -> {
+          final var sender = context.sender();
+          final var source = context.argument(0);
+          final var name = context.argument(1);
+
+          if (source == null || name == null) {
+            Messages.send(sender, MessageKey.COMMON_WORLD_REQUIRED);
+
+            return;
+          }
+
+          for (final var argument : List.of(source, name)) {
+            if (!WORLD_NAME_PATTERN.matcher(argument).matches()) {
+              Messages.send(sender, MessageKey.COMMON_WORLD_NAME_INVALID,
+                  "name", argument,
+                  "pattern", "[a-z0-9/._-]+");
+
+              return;
+            }
+          }
+
+          Messages.send(sender, MessageKey.CLONE_STARTED, "source", source, "name", name);
+
+          service.cloneWorldAsync(source, name).thenAcceptAsync(cloned -> Messages.send(sender,
+              cloned.isPresent() ? MessageKey.CLONE_SUCCESS : MessageKey.CLONE_FAIL,
+              "source", source,
+              "name", name), mainThread);
+        }, context -> {
+          if (context.arity() == 2) {
+            final var input = context.argument(1);
+
+            return input == null || input.isEmpty() ? List.of("{name}") : List.of();
+          }
+
+          return worlds(context, true, true);
+        }, 2))
         .register(new CommandAction("load", Messages.get(MessageKey.USAGE_LOAD), context -> {
           final var sender = context.sender();
           final var name = context.argument(0);
@@ -139,18 +186,14 @@ public final class GoWorldsCommand implements CommandExecutor, TabCompleter {
           final var record = repository.optionalWorld(name);
 
           if (record.isEmpty()) {
-            Messages.send(sender, MessageKey.COMMON_WORLD_UNKNOWN, Messages.vars("name", name));
+            Messages.send(sender, MessageKey.COMMON_WORLD_UNKNOWN, "name", name);
 
             return;
           }
 
-          final var loaded = service.loadWorld(record.get());
-
-          if (loaded) {
-            Messages.send(sender, MessageKey.LOAD_SUCCESS, Messages.vars("name", name));
-          } else {
-            Messages.send(sender, MessageKey.LOAD_FAIL, Messages.vars("name", name));
-          }
+          service.loadWorldAsync(record.get()).thenAcceptAsync(loaded -> Messages.send(sender,
+              loaded ? MessageKey.LOAD_SUCCESS : MessageKey.LOAD_FAIL,
+              "name", name), mainThread);
         }, context -> worlds(context, false, true), 1))
         .register(new CommandAction("unload", Messages.get(MessageKey.USAGE_UNLOAD), context -> {
           final var sender = context.sender();
@@ -162,15 +205,27 @@ public final class GoWorldsCommand implements CommandExecutor, TabCompleter {
             return;
           }
 
-          final var save = context.arity() < 2 || Boolean.parseBoolean(context.argument(1));
-          final var unloaded = service.unloadWorld(name, save);
+          final var token = context.argument(1);
+          final var mode = token == null ? WorldUnloadMode.SAVE : WorldUnloadMode.fromName(token);
 
-          if (unloaded) {
-            Messages.send(sender, MessageKey.UNLOAD_SUCCESS, Messages.vars("name", name, "save", save));
-          } else {
-            Messages.send(sender, MessageKey.UNLOAD_FAIL, Messages.vars("name", name));
+          if (mode == null) {
+            Messages.send(sender, MessageKey.USAGE_PREFIX,
+                "command", context.label(),
+                "usage", Messages.get(MessageKey.USAGE_UNLOAD));
+
+            return;
           }
-        }, context -> worlds(context, true, false), 1))
+
+          service.unloadWorldAsync(name, mode).thenAcceptAsync(unloaded -> {
+            if (unloaded) {
+              Messages.send(sender, MessageKey.UNLOAD_SUCCESS, "name", name, "save", mode.saves());
+            } else {
+              Messages.send(sender, MessageKey.UNLOAD_FAIL, "name", name);
+            }
+          }, mainThread);
+        }, context -> context.arity() == 2
+            ? completions(context.argument(1), UNLOAD_MODES, mode -> mode)
+            : worlds(context, true, false), 1))
         .register(new CommandAction("delete", Messages.get(MessageKey.USAGE_DELETE), context -> {
           final var sender = context.sender();
           final var name = context.argument(0);
@@ -181,13 +236,21 @@ public final class GoWorldsCommand implements CommandExecutor, TabCompleter {
             return;
           }
 
-          final var deleted = service.deleteWorld(name);
+          final var deletion = service.deleteWorldAsync(name);
 
-          if (deleted) {
-            Messages.send(sender, MessageKey.DELETE_SUCCESS, Messages.vars("name", name));
-          } else {
-            Messages.send(sender, MessageKey.DELETE_FAIL, Messages.vars("name", name));
-          }
+          deletion.removed().thenAcceptAsync(removed -> {
+            if (!removed) {
+              Messages.send(sender, MessageKey.DELETE_FAIL, "name", name);
+
+              return;
+            }
+
+            Messages.send(sender, MessageKey.DELETE_STARTED, "name", name);
+
+            deletion.purged().thenAcceptAsync(purged -> Messages.send(sender,
+                purged ? MessageKey.DELETE_SUCCESS : MessageKey.DELETE_PURGE_FAIL,
+                "name", name), mainThread);
+          }, mainThread);
         }, context -> worlds(context, false, true), 1))
         .register(new CommandAction("info", Messages.get(MessageKey.USAGE_INFO), context -> {
           final var sender = context.sender();
@@ -202,21 +265,19 @@ public final class GoWorldsCommand implements CommandExecutor, TabCompleter {
           final var optionalRecord = repository.optionalWorld(name);
 
           if (optionalRecord.isEmpty()) {
-            Messages.send(sender, MessageKey.COMMON_WORLD_UNKNOWN, Messages.vars("name", name));
+            Messages.send(sender, MessageKey.COMMON_WORLD_UNKNOWN, "name", name);
 
             return;
           }
 
           final var record = optionalRecord.get();
-          final var world = Bukkit.getWorld(name);
-          final var loaded = world != null;
+          final var loaded = service.loadedWorlds().isLoaded(name);
 
-          Messages.send(sender, MessageKey.INFO_MESSAGE, Messages.vars(
+          Messages.send(sender, MessageKey.INFO_MESSAGE,
               "name", record.name(),
               "environment", record.environment().name(),
               "generator", record.generator(),
-              "loaded", loaded
-          ));
+              "loaded", loaded);
         }, context -> worlds(context, true, true), 1))
         .register(new CommandAction("teleport", Messages.get(MessageKey.USAGE_TELEPORT), context -> {
           final var sender = context.sender();
@@ -238,7 +299,7 @@ public final class GoWorldsCommand implements CommandExecutor, TabCompleter {
             name = first;
 
             if (!(sender instanceof final Player player)) {
-              Messages.send(sender, MessageKey.TELEPORT_ONLY_PLAYER, Messages.vars("command", context.label()));
+              Messages.send(sender, MessageKey.TELEPORT_ONLY_PLAYER, "command", context.label());
 
               return;
             }
@@ -262,7 +323,7 @@ public final class GoWorldsCommand implements CommandExecutor, TabCompleter {
               final var secondPlayer = Bukkit.getPlayerExact(second);
 
               if (secondPlayer == null) {
-                Messages.send(sender, MessageKey.TELEPORT_PLAYER_NOT_ONLINE, Messages.vars("player", second));
+                Messages.send(sender, MessageKey.TELEPORT_PLAYER_NOT_ONLINE, "player", second);
 
                 return;
               }
@@ -271,49 +332,38 @@ public final class GoWorldsCommand implements CommandExecutor, TabCompleter {
             }
           }
 
-          var world = Bukkit.getWorld(name);
-
-          if (world == null) {
-            final var record = repository.optionalWorld(name);
-
-            if (record.isPresent()) {
-              world = Bukkit.getWorld(name);
-            }
-          }
-
-          if (world == null) {
-            Messages.send(sender, MessageKey.TELEPORT_WORLD_NOT_LOADED, Messages.vars("name", name));
+          if (Bukkit.getWorld(name) == null && !repository.isManaged(name)) {
+            Messages.send(sender, MessageKey.TELEPORT_WORLD_NOT_LOADED, "name", name);
 
             return;
           }
 
-          final var teleported = target.teleport(world.getSpawnLocation());
+          final var player = target;
+          final var worldName = name;
 
-          if (!teleported) {
-            Messages.send(sender, MessageKey.TELEPORT_FAILED);
+          service.teleportAsync(player, worldName).thenAcceptAsync(teleported -> {
+            if (!teleported) {
+              Messages.send(sender, MessageKey.TELEPORT_FAILED);
 
-            return;
-          }
+              return;
+            }
 
-          if (sender == target) {
-            Messages.send(sender, MessageKey.TELEPORT_SUCCESS_SELF, Messages.vars("name", name));
-          } else {
-            Messages.send(sender, MessageKey.TELEPORT_SUCCESS_OTHER, Messages.vars(
-                "player", target.getName(),
-                "name", name
-            ));
-          }
+            if (sender == player) {
+              Messages.send(sender, MessageKey.TELEPORT_SUCCESS_SELF, "name", worldName);
+            } else {
+              Messages.send(sender, MessageKey.TELEPORT_SUCCESS_OTHER,
+                  "player", player.getName(),
+                  "name", worldName);
+            }
+          }, mainThread);
         }, context -> {
           final var count = context.arity();
 
           if (count == 1) {
-            final var names = new LinkedHashSet<>(worlds(context, true, false));
-
-            for (final var world : Bukkit.getWorlds()) {
-              names.add(world.getName());
-            }
+            final var prefix = context.argument(0) == null ? "" : context.argument(0);
 
-            return completions(context.argument(0), names, name -> name);
+            return completions(prefix, service.loadedWorlds().names().subSet(prefix, true, prefix + '\uffff', false),
+                name -> name);
           }
 
           if (count == 2) {
@@ -325,7 +375,321 @@ public final class GoWorldsCommand implements CommandExecutor, TabCompleter {
           }
 
           return List.of();
-        }, 1));
+        }, 1))
+        .register(new CommandAction("snapshot", Messages.get(MessageKey.USAGE_SNAPSHOT),
+            context -> snapshot(context, false), context -> snapshots(context, "{name}"), 1))
+        .register(new CommandAction("reset", Messages.get(MessageKey.USAGE_RESET),
+            context -> snapshot(context, true), context -> snapshots(context, DEFAULT_SNAPSHOT), 1))
+        .register(new CommandAction("pool", Messages.get(MessageKey.USAGE_POOL), this::pool, context -> {
+          final var count = context.arity();
+
+          if (count == 1) {
+            return completions(context.argument(0), pools.templates(), template -> template);
+          }
+
+          if (count == 2) {
+            return completions(context.argument(1), Bukkit.getOnlinePlayers(), Player::getName);
+          }
+
+          return List.of();
+        }, 0))
+        .register(new CommandAction("release", Messages.get(MessageKey.USAGE_RELEASE), context -> {
+          final var sender = context.sender();
+          final var name = context.argument(0);
+
+          if (name == null) {
+            Messages.send(sender, MessageKey.COMMON_WORLD_REQUIRED);
+
+            return;
+          }
+
+          Messages.send(sender, pools.release(name) ? MessageKey.RELEASE_SUCCESS : MessageKey.RELEASE_FAIL,
+              "name", name);
+        }, context -> worlds(context, true, false), 1))
+        .register(new CommandAction("hibernate", Messages.get(MessageKey.USAGE_HIBERNATE), this::hibernate,
+            context -> context.arity() == 2
+                ? completions(context.argument(1), HIBERNATE_VALUES, value -> value)
+                : worlds(context, false, false), 2))
+        .register(new CommandAction("status", Messages.get(MessageKey.USAGE_STATUS), this::status,
+            context -> List.of(), 0))
+        .register(new CommandAction("reload", Messages.get(MessageKey.USAGE_RELOAD), this::reload,
+            context -> List.of(), 0));
+  }
+
+  private void hibernate(final @NotNull CommandContext context) {
+    final var sender = context.sender();
+    final var name = context.argument(0);
+    final var value = context.argument(1);
+
+    if (name == null || value == null || !HIBERNATE_VALUES.contains(value.toLowerCase(Locale.ROOT))) {
+      Messages.send(sender, MessageKey.USAGE_PREFIX,
+          "command", context.label(),
+          "usage", Messages.get(MessageKey.USAGE_HIBERNATE));
+
+      return;
+    }
+
+    final var hibernates = Boolean.parseBoolean(value);
+
+    if (!service.setHibernates(name, hibernates)) {
+      Messages.send(sender, MessageKey.COMMON_WORLD_UNKNOWN, "name", name);
+
+      return;
+    }
+
+    Messages.send(sender, hibernates ? MessageKey.HIBERNATE_ENABLED : MessageKey.HIBERNATE_DISABLED, "name", name);
+  }
+
+  private void status(final @NotNull CommandContext context) {
+    final var sender = context.sender();
+    final var operations = new ArrayList<>(service.operations());
+
+    if (operations.isEmpty()) {
+      Messages.send(sender, MessageKey.STATUS_EMPTY);
+
+      return;
+    }
+
+    operations.sort(Comparator.comparing(WorldOperation::world, String.CASE_INSENSITIVE_ORDER)
+        .thenComparing(operation -> !operation.running()));
+
+    final var running = Messages.get(sender, MessageKey.STATUS_RUNNING);
+    final var queued = Messages.get(sender, MessageKey.STATUS_QUEUED);
+    final var out = new StringBuilder(64 * (operations.size() + 1));
+
+    Messages.append(out, sender, MessageKey.STATUS_HEADER, "count", operations.size());
+
+    for (final var operation : operations) {
+      Messages.append(out.append('\n'), sender, MessageKey.STATUS_ENTRY,
+          "name", operation.world(),
+          "action", operation.action(),
+          "state", operation.running() ? running : queued,
+          "elapsed", operation.elapsedMillis());
+    }
+
+    sender.sendMessage(Messages.format(out.toString()));
+  }
+
+  private void snapshot(final @NotNull CommandContext context, final boolean reset) {
+    final var sender = context.sender();
+    final var name = context.argument(0);
+
+    if (name == null) {
+      Messages.send(sender, MessageKey.COMMON_WORLD_REQUIRED);
+
+      return;
+    }
+
+    final var snapshot = Optional.ofNullable(context.argument(1))
+        .filter(input -> !input.isBlank())
+        .orElse(DEFAULT_SNAPSHOT);
+
+    if (!SNAPSHOT_NAME_PATTERN.matcher(snapshot).matches() || snapshot.chars().allMatch(c -> c == '.')) {
+      Messages.send(sender, MessageKey.COMMON_SNAPSHOT_NAME_INVALID,
+          "name", snapshot,
+          "pattern", "[a-z0-9._-]+");
+
+      return;
+    }
+
+    if (!service.repository().isManaged(name)) {
+      Messages.send(sender, MessageKey.COMMON_WORLD_UNKNOWN, "name", name);
+
+      return;
+    }
+
+    if (!reset && service.loadedWorlds().isLoaded(name)) {
+      Messages.send(sender, MessageKey.SNAPSHOT_WORLD_LOADED, "name", name);
+
+      return;
+    }
+
+    Messages.send(sender, reset ? MessageKey.RESET_STARTED : MessageKey.SNAPSHOT_STARTED,
+        "name", name,
+        "snapshot", snapshot);
+
+    final var future = reset ? service.resetWorldAsync(name, snapshot) : service.snapshotWorldAsync(name, snapshot);
+
+    future.thenAcceptAsync(done -> {
+      final MessageKey key;
+
+      if (reset) {
+        key = done ? MessageKey.RESET_SUCCESS : MessageKey.RESET_FAIL;
+      } else {
+        key = done ? MessageKey.SNAPSHOT_SUCCESS : MessageKey.SNAPSHOT_FAIL;
+      }
+
+      Messages.send(sender, key, "name", name, "snapshot", snapshot);
+    }, mainThread);
+  }
+
+  private @NotNull List<String> snapshots(final @NotNull CommandContext context, final @NotNull String placeholder) {
+    if (context.arity() != 2) {
+      return worlds(context, true, true);
+    }
+
+    final var name = context.argument(0);
+    final var input = context.argument(1);
+
+    if (name == null || !service.repository().isManaged(name)) {
+      return List.of();
+    }
+
+    final var existing = service.snapshots(name);
+
+    if (existing.isEmpty() && (input == null || input.isEmpty())) {
+      return List.of(placeholder);
+    }
+
+    return completions(input, existing, snapshot -> snapshot);
+  }
+
+  private void pool(final @NotNull CommandContext context) {
+    final var sender = context.sender();
+    final var template = context.argument(0);
+
+    if (template == null) {
+      final var status = pools.status();
+
+      if (status.isEmpty()) {
+        Messages.send(sender, MessageKey.POOL_EMPTY);
+
+        return;
+      }
+
+      final var out = new StringBuilder(64 * (status.size() + 1));
+
+      Messages.append(out, sender, MessageKey.POOL_HEADER, "count", status.size());
+
+      for (final var pool : status) {
+        Messages.append(out.append('\n'), sender, MessageKey.POOL_ENTRY,
+            "template", pool.template(),
+            "ready", pool.ready(),
+            "target", pool.target(),
+            "leased", pool.leased(),
+            "warming", pool.warming());
+      }
+
+      sender.sendMessage(Messages.format(out.toString()));
+
+      return;
+    }
+
+    final var playerName = context.argument(1);
+    final Player player;
+
+    if (playerName != null) {
+      player = Bukkit.getPlayerExact(playerName);
+
+      if (player == null) {
+        Messages.send(sender, MessageKey.TELEPORT_PLAYER_NOT_ONLINE, "player", playerName);
+
+        return;
+      }
+    } else {
+      player = sender instanceof final Player self ? self : null;
+    }
+
+    if (pools.templates().stream().noneMatch(template::equalsIgnoreCase)) {
+      Messages.send(sender, MessageKey.POOL_UNKNOWN, "template", template);
+
+      return;
+    }
+
+    final var acquired = pools.acquire(template);
+
+    if (acquired.isEmpty()) {
+      Messages.send(sender, MessageKey.POOL_EXHAUSTED, "template", template);
+
+      return;
+    }
+
+    final var world = acquired.get();
+
+    Messages.send(sender, MessageKey.POOL_ACQUIRED, "name", world.getName(), "template", template);
+
+    if (player != null) {
+      service.teleportAsync(player, world.getSpawnLocation()).thenAcceptAsync(teleported -> {
+        if (!teleported) {
+          Messages.send(sender, MessageKey.TELEPORT_FAILED);
+        }
+      }, mainThread);
+    }
+  }
+
+  private void reload(final @NotNull CommandContext context) {
+    final var sender = context.sender();
+
+    Messages.send(sender, MessageKey.RELOAD_STARTED);
+
+    reload.get().whenCompleteAsync((diff, throwable) -> {
+      if (throwable != null) {
+        final var cause = throwable instanceof CompletionException && throwable.getCause() != null
+            ? throwable.getCause()
+            : throwable;
+
+        Messages.send(sender, MessageKey.RELOAD_FAIL,
+            "reason", cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName());
+
+        return;
+      }
+
+      Messages.send(sender, MessageKey.RELOAD_SUCCESS,
+          "added", diff.added().size(),
+          "removed", diff.removed().size(),
+          "changed", diff.changed().size());
+    }, mainThread);
+  }
+
+  private void list(final @NotNull CommandContext context) {
+    final var query = WorldListQuery.parse(context);
+    final var sender = context.sender();
+
+    if (query == null) {
+      Messages.send(sender, MessageKey.USAGE_PREFIX,
+          "command", context.label(),
+          "usage", Messages.get(MessageKey.USAGE_LIST));
+
+      return;
+    }
+
+    final var loadedWorlds = service.loadedWorlds();
+    final var records = query.apply(service.repository().worlds(true, true), loadedWorlds);
+
+    if (records.isEmpty()) {
+      Messages.send(sender, MessageKey.LIST_EMPTY);
+
+      return;
+    }
+
+    final var pages = (records.size() + listPageSize - 1) / listPageSize;
+    final var page = Math.min(query.page(), pages);
+    final var from = (page - 1) * listPageSize;
+    final var to = Math.min(from + listPageSize, records.size());
+    final var out = new StringBuilder(64 * (to - from + 2));
+
+    Messages.append(out, sender, MessageKey.LIST_HEADER,
+        "count", records.size(),
+        "page", page,
+        "pages", pages);
+
+    for (final var record : records.subList(from, to)) {
+      Messages.append(out.append('\n'), sender, MessageKey.LIST_ENTRY,
+          "name", record.name(),
+          "environment", record.environment().name(),
+          "generator", record.generator(),
+          "loaded", loadedWorlds.isLoaded(record.name()));
+    }
+
+    if (page < pages) {
+      final var filters = query.filters();
+
+      Messages.append(out.append('\n'), sender, MessageKey.LIST_NEXT_PAGE,
+          "command", context.label(),
+          "next", filters.isEmpty() ? String.valueOf(page + 1) : (page + 1) + " " + filters);
+    }
+
+    sender.sendMessage(Messages.format(out.toString()));
   }
 
   @Override
@@ -367,22 +731,30 @@ public final class GoWorldsCommand implements CommandExecutor, TabCompleter {
   private @NotNull List<String> worlds(final @NotNull CommandContext context,
                                        final boolean requireLoaded,
                                        final boolean requireUnloaded) {
-    return context.arity() == 1
-        ? completions(context.argument(0), service.repository().worlds(requireLoaded, requireUnloaded), WorldRecord::name)
-        : List.of();
+    if (context.arity() != 1) {
+      return List.of();
+    }
+
+    final var input = context.argument(0);
+
+    return service.repository().complete(input == null ? "" : input, requireLoaded, requireUnloaded, COMPLETION_LIMIT);
   }
 
   private <T> @NotNull List<String> completions(final @Nullable String input,
                                                 final @NotNull Collection<T> source,
                                                 final @NotNull Function<T, String> extractor) {
-    final var prefix = input == null ? "" : input.toLowerCase(Locale.ROOT);
+    final var prefix = input == null ? "" : input;
     final var completions = new ArrayList<String>();
 
     for (final var item : source) {
       final var name = extractor.apply(item);
 
-      if (name.toLowerCase(Locale.ROOT).startsWith(prefix)) {
+      if (name.regionMatches(true, 0, prefix, 0, prefix.length())) {
         completions.add(name);
+
+        if (completions.size() >= COMPLETION_LIMIT) {
+          break;
+        }
       }
     }
 
@@ -0,0 +1,211 @@
+package go.xentany.goworlds.command;
+
+import go.xentany.goworlds.command.engine.CommandContext;
+import go.xentany.goworlds.world.domain.WorldEnvironment;
+import go.xentany.goworlds.world.domain.WorldRecord;
+import go.xentany.goworlds.world.port.LoadedWorlds;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+
+final class WorldListQuery {
+
+  static final List<String> OPTIONS = List.of(
+      "loaded", "unloaded", "env=", "gen=", "name=", "sort=name", "sort=environment", "sort=generator",
+      "sort=priority", "sort=loaded"
+  );
+
+  private static final Set<String> SORTS = Set.of("name", "env", "environment", "gen", "generator", "priority", "loaded");
+
+  private int page = 1;
+  private Boolean loaded;
+  private WorldEnvironment environment;
+  private String generator;
+  private String nameGlob;
+  private Pattern name;
+  private String sort;
+
+  private WorldListQuery() {}
+
+  static @Nullable WorldListQuery parse(final @NotNull CommandContext context) {
+    final var query = new WorldListQuery();
+
+    for (int index = 0; index < context.arity(); index++) {
+      final var token = context.argument(index);
+
+      if (token == null || token.isBlank()) {
+        continue;
+      }
+
+      final var separator = token.indexOf('=');
+      final var key = (separator < 0 ? token : token.substring(0, separator)).toLowerCase(Locale.ROOT);
+      final var value = separator < 0 ? "" : token.substring(separator + 1);
+
+      switch (key) {
+        case "loaded", "unloaded" -> {
+          if (separator >= 0) {
+            return null;
+          }
+
+          query.loaded = key.equals("loaded");
+        }
+        case "env", "environment" -> {
+          query.environment = environment(value);
+
+          if (query.environment == null) {
+            return null;
+          }
+        }
+        case "gen", "generator" -> query.generator = value.isBlank() ? null : value;
+        case "name" -> {
+          query.nameGlob = value.isBlank() ? null : value;
+          query.name = value.isBlank() ? null : glob(value);
+        }
+        case "sort" -> {
+          query.sort = value.toLowerCase(Locale.ROOT);
+
+          if (!SORTS.contains(query.sort)) {
+            return null;
+          }
+        }
+        default -> {
+          try {
+            query.page = Math.max(1, Integer.parseInt(token));
+          } catch (final NumberFormatException exception) {
+            return null;
+          }
+        }
+      }
+    }
+
+    return query;
+  }
+
+  int page() {
+    return page;
+  }
+
+  @NotNull List<WorldRecord> apply(final @NotNull Collection<WorldRecord> records, final @NotNull LoadedWorlds loadedWorlds) {
+    Objects.requireNonNull(records, "records");
+    Objects.requireNonNull(loadedWorlds, "loadedWorlds");
+
+    final var result = new ArrayList<WorldRecord>();
+
+    for (final var record : records) {
+      if (environment != null && record.environment() != environment) {
+        continue;
+      }
+
+      if (generator != null && !record.generator().equalsIgnoreCase(generator)) {
+        continue;
+      }
+
+      if (name != null && !name.matcher(record.name()).matches()) {
+        continue;
+      }
+
+      if (loaded != null && loadedWorlds.isLoaded(record.name()) != loaded) {
+        continue;
+      }
+
+      result.add(record);
+    }
+
+    final var comparator = comparator(loadedWorlds);
+
+    if (comparator != null) {
+      result.sort(comparator);
+    }
+
+    return result;
+  }
+
+  @NotNull String filters() {
+    final var joiner = new StringJoiner(" ");
+
+    if (loaded != null) {
+      joiner.add(loaded ? "loaded" : "unloaded");
+    }
+
+    if (environment != null) {
+      joiner.add("env=" + environment.name());
+    }
+
+    if (generator != null) {
+      joiner.add("gen=" + generator);
+    }
+
+    if (name != null) {
+      joiner.add("name=" + nameGlob);
+    }
+
+    if (sort != null) {
+      joiner.add("sort=" + sort);
+    }
+
+    return joiner.toString();
+  }
+
+  private @Nullable Comparator<WorldRecord> comparator(final @NotNull LoadedWorlds loadedWorlds) {
+    if (sort == null) {
+      return null;
+    }
+
+    final Comparator<WorldRecord> byName = Comparator.comparing(WorldRecord::name, String.CASE_INSENSITIVE_ORDER);
+
+    return switch (sort) {
+      case "name" -> byName;
+      case "env", "environment" -> Comparator.comparing(WorldRecord::environment).thenComparing(byName);
+      case "gen", "generator" -> Comparator.comparing(WorldRecord::generator, String.CASE_INSENSITIVE_ORDER)
+          .thenComparing(byName);
+      case "priority" -> Comparator.comparing(WorldRecord::priority).thenComparing(byName);
+      case "loaded" -> Comparator.comparing((WorldRecord record) -> !loadedWorlds.isLoaded(record.name()))
+          .thenComparing(byName);
+      default -> null;
+    };
+  }
+
+  private static @Nullable WorldEnvironment environment(final @NotNull String value) {
+    return switch (value.toUpperCase(Locale.ROOT)) {
+      case "NORMAL" -> WorldEnvironment.NORMAL;
+      case "NETHER" -> WorldEnvironment.NETHER;
+      case "END", "THE_END" -> WorldEnvironment.THE_END;
+      default -> null;
+    };
+  }
+
+  private static @NotNull Pattern glob(final @NotNull String glob) {
+    final var regex = new StringBuilder(glob.length() + 8);
+    var literal = new StringBuilder();
+
+    for (int index = 0; index < glob.length(); index++) {
+      final var current = glob.charAt(index);
+
+      if (current == '*' || current == '?') {
+        if (!literal.isEmpty()) {
+          regex.append(Pattern.quote(literal.toString()));
+          literal = new StringBuilder();
+        }
+
+        regex.append(current == '*' ? ".*" : ".");
+      } else {
+        literal.append(current);
+      }
+    }
+
+    if (!literal.isEmpty()) {
+      regex.append(Pattern.quote(literal.toString()));
+    }
+
+    return Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+  }
+}
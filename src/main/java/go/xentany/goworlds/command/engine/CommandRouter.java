@@ -19,11 +19,13 @@ public final class CommandRouter implements CommandExecutor, TabCompleter {
 
   private final List<CommandAction> catalog = new ArrayList<>();
   private final Map<String, CommandAction> index = new LinkedHashMap<>();
+  private final List<String> names = new ArrayList<>();
 
   public CommandRouter register(final @NotNull CommandAction action) {
     Objects.requireNonNull(action, "subcommand");
 
     catalog.add(action);
+    names.add(action.name());
     index.put(action.name().toLowerCase(Locale.ROOT), action);
 
     return this;
@@ -52,10 +54,9 @@ public final class CommandRouter implements CommandExecutor, TabCompleter {
     final int arity = arguments.length - 1;
 
     if (arity < subcommand.arity()) {
-      Messages.send(sender, MessageKey.USAGE_PREFIX, Messages.vars(
+      Messages.send(sender, MessageKey.USAGE_PREFIX,
           "command", label,
-          "usage", subcommand.usage())
-      );
+          "usage", subcommand.usage());
 
       return true;
     }
@@ -73,12 +74,6 @@ public final class CommandRouter implements CommandExecutor, TabCompleter {
                                     final @NotNull String alias,
                                     final @NotNull String @NotNull [] arguments) {
     if (arguments.length == 1) {
-      final var names = new ArrayList<String>(catalog.size());
-
-      for (final var subcommand : catalog) {
-        names.add(subcommand.name());
-      }
-
       return completions(arguments[0], names);
     }
 
@@ -97,20 +92,17 @@ public final class CommandRouter implements CommandExecutor, TabCompleter {
     Messages.send(sender, MessageKey.ROUTER_USAGE_HEADER);
 
     for (final var sub : catalog) {
-      Messages.send(sender, MessageKey.ROUTER_USAGE_LINE, Messages.vars(
+      Messages.send(sender, MessageKey.ROUTER_USAGE_LINE,
           "command", label,
-          "usage", sub.usage())
-      );
+          "usage", sub.usage());
     }
   }
 
-  private @NotNull List<String> completions(@NotNull String prefix, final @NotNull List<String> options) {
-    prefix = prefix.toLowerCase(Locale.ROOT);
-
+  private @NotNull List<String> completions(final @NotNull String prefix, final @NotNull List<String> options) {
     final var result = new ArrayList<String>();
 
     for (final var option : options) {
-      if (option.toLowerCase(Locale.ROOT).startsWith(prefix)) {
+      if (option.regionMatches(true, 0, prefix, 0, prefix.length())) {
         result.add(option);
       }
     }
@@ -0,0 +1,110 @@
+package go.xentany.goworlds.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class Settings {
+
+  public Workers workers = new Workers();
+  public Autoload autoload = new Autoload();
+  public Storage storage = new Storage();
+  public Commands commands = new Commands();
+  public Teleport teleport = new Teleport();
+  public Unload unload = new Unload();
+  public Hibernation hibernation = new Hibernation();
+  public Governor governor = new Governor();
+  public Clone clone = new Clone();
+  public Pools pools = new Pools();
+  public Snapshots snapshots = new Snapshots();
+  public VoidGenerator voidGenerator = new VoidGenerator();
+
+  public static final class Workers {
+
+    public int threads = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+  }
+
+  public static final class Autoload {
+
+    public long tickBudgetMillis = 25L;
+    public int progressInterval = 25;
+  }
+
+  public static final class Storage {
+
+    public String backend = "yaml";
+    public int journalCompactionThreshold = 1024;
+    public boolean writeBehind = true;
+    public long debounceMillis = 500L;
+    public boolean watch = false;
+    public long watchDebounceMillis = 1000L;
+    public boolean watchAutoload = false;
+  }
+
+  public static final class Commands {
+
+    public int listPageSize = 10;
+  }
+
+  public static final class Teleport {
+
+    public int prefetchRadius = 1;
+  }
+
+  public static final class Unload {
+
+    public List<String> fallbackWorlds = new ArrayList<>();
+    public int evacuationBatchSize = 8;
+    public long evacuationTimeoutMillis = 10_000L;
+    public long drainTickBudgetMillis = 5L;
+    public int drainFinalChunks = 32;
+    public long drainTimeoutMillis = 120_000L;
+  }
+
+  public static final class Hibernation {
+
+    public boolean enabled = false;
+    public long idleSeconds = 600L;
+    public String mode = "save";
+  }
+
+  public static final class Governor {
+
+    public boolean enabled = false;
+    public int maxLoadedWorlds = 0;
+    public int maxLoadedChunks = 0;
+    public long checkIntervalSeconds = 30L;
+  }
+
+  public static final class Clone {
+
+    public String templatesFolder = "templates";
+  }
+
+  public static final class VoidGenerator {
+
+    public boolean platform = true;
+    public String platformMaterial = "BEDROCK";
+    public int platformRadius = 1;
+    public int platformY = 64;
+  }
+
+  public static final class Snapshots {
+
+    public String folder = "snapshots";
+  }
+
+  public static final class Pools {
+
+    public long adjustIntervalSeconds = 10L;
+    public long demandWindowSeconds = 60L;
+    public List<Pool> templates = new ArrayList<>();
+  }
+
+  public static final class Pool {
+
+    public String template = "";
+    public int minReady = 1;
+    public int maxReady = 4;
+    public int maxInstances = 16;
+  }
+}
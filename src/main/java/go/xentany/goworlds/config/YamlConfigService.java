@@ -1,8 +1,10 @@
 package go.xentany.goworlds.config;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
+import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
@@ -38,13 +40,9 @@ public final class YamlConfigService {
         return def;
       }
 
-      final var yaml = YamlKit.yaml(type);
+      final var object = read(file, type);
 
-      try (final var in = new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8)) {
-        final var object = yaml.loadAs(in, type);
-
-        return object != null ? object : defaults.get();
-      }
+      return object != null ? object : defaults.get();
     } catch (final Exception exception) {
       logger.error("Failed to load yaml: {}", file, exception);
 
@@ -52,35 +50,54 @@ public final class YamlConfigService {
     }
   }
 
+  public <T> @Nullable T read(final @NotNull Path file, final @NotNull Class<T> type) throws IOException {
+    Objects.requireNonNull(file, "file");
+    Objects.requireNonNull(type, "type");
+
+    if (!Files.exists(file)) {
+      return null;
+    }
+
+    final var yaml = YamlKit.yaml(type);
+
+    try (final var in = new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8)) {
+      return yaml.loadAs(in, type);
+    }
+  }
+
   public void save(final @NotNull Path file, final @NotNull Object object) {
+    try {
+      write(file, object);
+    } catch (final Exception exception) {
+      logger.error("Failed to save yaml: {}", file, exception);
+    }
+  }
+
+  public void write(final @NotNull Path file, final @NotNull Object object) throws IOException {
     Objects.requireNonNull(file, "file");
     Objects.requireNonNull(object, "object");
 
-    try {
-      final var parent = file.getParent();
+    final var parent = file.getParent();
 
-      if (parent != null) {
-        Files.createDirectories(parent);
-      }
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
 
-      final var tmp = parent != null
-          ? Files.createTempFile(parent, "yaml", ".tmp")
-          : Files.createTempFile("ytaml", ".tmp");
-      final var yaml = YamlKit.yaml(object.getClass());
-      final var dump = yaml.dumpAsMap(object);
+    final var tmp = parent != null
+        ? Files.createTempFile(parent, "yaml", ".tmp")
+        : Files.createTempFile("ytaml", ".tmp");
+    final var yaml = YamlKit.yaml(object.getClass());
+    final var dump = yaml.dumpAsMap(object);
 
-      try (final var out = new OutputStreamWriter(
-          Files.newOutputStream(tmp, StandardOpenOption.TRUNCATE_EXISTING), StandardCharsets.UTF_8)) {
-        out.write(dump);
-      }
+    try (final var out = new OutputStreamWriter(
+        Files.newOutputStream(tmp, StandardOpenOption.TRUNCATE_EXISTING), StandardCharsets.UTF_8)) {
+      out.write(dump);
+    }
 
-      try {
-        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
-      } catch (AtomicMoveNotSupportedException ex) {
-        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
-      }
-    } catch (final Exception exception) {
-      logger.error("Failed to save yaml: {}", file, exception);
+    try {
+      Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException ex) {
+      Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
     }
   }
 }
\ No newline at end of file
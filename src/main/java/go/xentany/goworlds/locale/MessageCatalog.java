@@ -0,0 +1,27 @@
+package go.xentany.goworlds.locale;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+
+public final class MessageCatalog {
+
+  private final Map<MessageKey, MessageTemplate> templates;
+  private final Map<String, Path> locales;
+
+  MessageCatalog(final @NotNull Map<MessageKey, MessageTemplate> templates,
+                 final @NotNull Map<String, Path> locales) {
+    this.templates = Objects.requireNonNull(templates, "templates");
+    this.locales = Map.copyOf(locales);
+  }
+
+  @NotNull Map<MessageKey, MessageTemplate> templates() {
+    return templates;
+  }
+
+  @NotNull Map<String, Path> locales() {
+    return locales;
+  }
+}
@@ -10,20 +10,31 @@ public enum MessageKey {
   ROUTER_USAGE_LINE(path("router", "usage-line"), "&e/{command} {usage}"),
 
   USAGE_PREFIX(path("usage", "prefix"), "&#00ffac▶ &#e0e1e1Используйте &#00ffac/{command} {usage}"),
-  USAGE_LIST (path("usage", "list"), "list"),
+  USAGE_LIST(path("usage", "list"), "list [page] [loaded|unloaded] [env=] [gen=] [name=glob] [sort=name|environment|generator|priority|loaded]"),
   USAGE_CREATE(path("usage", "create"), "create (name) (environment) [generator]"),
   USAGE_IMPORT(path("usage", "import"), "import (name) (environment) [generator]"),
+  USAGE_CLONE(path("usage", "clone"), "clone (source|template) (name)"),
   USAGE_LOAD(path("usage", "load"), "load (name)"),
-  USAGE_UNLOAD(path("usage", "unload"), "unload (name) [save=true|false]"),
+  USAGE_UNLOAD(path("usage", "unload"), "unload (name) [save|discard|drain]"),
   USAGE_DELETE(path("usage", "delete"), "delete (name)"),
   USAGE_INFO(path("usage", "info"), "info (name)"),
   USAGE_TELEPORT(path("usage", "teleport"), "teleport (world) [player]"),
+  USAGE_SNAPSHOT(path("usage", "snapshot"), "snapshot (world) [name]"),
+  USAGE_RESET(path("usage", "reset"), "reset (world) [snapshot]"),
+  USAGE_POOL(path("usage", "pool"), "pool [template] [player]"),
+  USAGE_RELEASE(path("usage", "release"), "release (world)"),
+  USAGE_HIBERNATE(path("usage", "hibernate"), "hibernate (world) (true|false)"),
+  USAGE_RELOAD(path("usage", "reload"), "reload"),
+  USAGE_STATUS(path("usage", "status"), "status"),
 
   COMMON_WORLD_NAME_INVALID(path("common", "world-name-invalid"), "&cНекорректное имя мира: &e{name}&7. Допускаются символы: &f{pattern}"),
+  COMMON_SNAPSHOT_NAME_INVALID(path("common", "snapshot-name-invalid"), "&cНекорректное имя снапшота: &e{name}&7. Допускаются символы: &f{pattern}"),
   COMMON_WORLD_REQUIRED(path("common", "world-required"), "&cНужно указать название мира."),
   COMMON_WORLD_UNKNOWN(path("common", "world-unknown"), "&cНеизвестный мир: &e{name} &7(не управляется)"),
 
-  LIST_HEADER(path("list", "header"), "&7Управляемых миров: &e{count}"),
+  LIST_HEADER(path("list", "header"), "&7Управляемых миров: &e{count} &7(страница &f{page}&7/&f{pages}&7)"),
+  LIST_EMPTY(path("list", "empty"), "&7Нет миров, подходящих под фильтры."),
+  LIST_NEXT_PAGE(path("list", "next-page"), "&7Дальше: &e/{command} list {next}"),
   LIST_ENTRY(path("list", "entry"), "&7- &e{name}&7 env=&f{environment}&7 gen=&f{generator}&7 loaded=&f{loaded}"),
 
   CREATE_SUCCESS(path("create", "success"), "&aМир создан: &e{name}&7 (&f{environment}&7, &f{generator}&7)"),
@@ -32,17 +43,54 @@ public enum MessageKey {
   IMPORT_SUCCESS(path("import", "success"), "&aМир импортирован: &e{name}&7 (&f{environment}&7, &f{generator}&7)"),
   IMPORT_FAIL(path("import", "fail"), "&cНе удалось импортировать мир: &e{name}"),
 
+  CLONE_STARTED(path("clone", "started"), "&7Копирую &e{source}&7 в &e{name}&7..."),
+  CLONE_SUCCESS(path("clone", "success"), "&aМир скопирован: &e{source}&7 → &e{name}"),
+  CLONE_FAIL(path("clone", "fail"), "&cНе удалось скопировать &e{source}&c в &e{name}"),
+
   LOAD_SUCCESS(path("load", "success"), "&aМир загружен: &e{name}"),
   LOAD_FAIL(path("load", "fail"), "&cНе удалось загрузить: &e{name}"),
 
   UNLOAD_SUCCESS(path("unload", "success"), "&aМир выгружен: &e{name} &7(сохранение: &f{save}&7)"),
   UNLOAD_FAIL(path("unload", "fail"), "&cНе удалось выгрузить: &e{name}"),
 
+  DELETE_STARTED(path("delete", "started"), "&7Мир &e{name}&7 снят с учёта, файлы удаляются в фоне..."),
   DELETE_SUCCESS(path("delete", "success"), "&aМир удалён: &e{name}"),
   DELETE_FAIL(path("delete", "fail"), "&cНе удалось удалить: &e{name}"),
+  DELETE_PURGE_FAIL(path("delete", "purge-fail"), "&cМир &e{name}&c снят с учёта, но часть файлов удалить не удалось"),
 
   INFO_MESSAGE(path("info", "message"), "&7Мир: &e{name}<br>&7 environment: &f{environment}<br>&7 generator: &f{generator}<br>&7 loaded: &f{loaded}"),
 
+  STATUS_EMPTY(path("status", "empty"), "&7Нет операций с мирами в работе или в очереди."),
+  STATUS_HEADER(path("status", "header"), "&7Операций с мирами: &e{count}"),
+  STATUS_ENTRY(path("status", "entry"), "&7- &e{name}&7: &f{action} &7({state}&7, &f{elapsed} мс&7)"),
+  STATUS_RUNNING(path("status", "running"), "&aвыполняется"),
+  STATUS_QUEUED(path("status", "queued"), "&6в очереди"),
+
+  SNAPSHOT_STARTED(path("snapshot", "started"), "&7Сохраняю снапшот &f{snapshot}&7 мира &e{name}&7..."),
+  SNAPSHOT_SUCCESS(path("snapshot", "success"), "&aСнапшот &f{snapshot}&a мира &e{name}&a сохранён"),
+  SNAPSHOT_FAIL(path("snapshot", "fail"), "&cНе удалось сохранить снапшот &f{snapshot}&c мира &e{name}"),
+  SNAPSHOT_WORLD_LOADED(path("snapshot", "world-loaded"), "&cМир &e{name}&c загружен, выгрузите его перед снапшотом"),
+
+  RESET_STARTED(path("reset", "started"), "&7Восстанавливаю &e{name}&7 из снапшота &f{snapshot}&7..."),
+  RESET_SUCCESS(path("reset", "success"), "&aМир &e{name}&a восстановлен из снапшота &f{snapshot}"),
+  RESET_FAIL(path("reset", "fail"), "&cНе удалось восстановить &e{name}&c из снапшота &f{snapshot}"),
+
+  POOL_EMPTY(path("pool", "empty"), "&7Пулы инстансов не настроены."),
+  POOL_HEADER(path("pool", "header"), "&7Пулов инстансов: &e{count}"),
+  POOL_ENTRY(path("pool", "entry"), "&7- &e{template}&7: готово &f{ready}&7/&f{target}&7, выдано &f{leased}&7, в подготовке &f{warming}"),
+  POOL_UNKNOWN(path("pool", "unknown"), "&cНеизвестный пул: &e{template}"),
+  POOL_EXHAUSTED(path("pool", "exhausted"), "&cНет готового инстанса &e{template}&c, попробуйте чуть позже"),
+  POOL_ACQUIRED(path("pool", "acquired"), "&aВыдан инстанс &e{name}&7 из пула &f{template}"),
+  RELEASE_SUCCESS(path("release", "success"), "&aИнстанс &e{name}&a возвращён в пул"),
+  RELEASE_FAIL(path("release", "fail"), "&cМир &e{name}&c не выдан из пула"),
+
+  HIBERNATE_ENABLED(path("hibernate", "enabled"), "&aМир &e{name}&a будет выгружаться при простое"),
+  HIBERNATE_DISABLED(path("hibernate", "disabled"), "&aМир &e{name}&a больше не выгружается при простое"),
+
+  RELOAD_STARTED(path("reload", "started"), "&7Перечитываю messages.yml и worlds.yml..."),
+  RELOAD_SUCCESS(path("reload", "success"), "&aКонфигурация перезагружена&7 (миров добавлено: &f{added}&7, удалено: &f{removed}&7, изменено: &f{changed}&7)"),
+  RELOAD_FAIL(path("reload", "fail"), "&cПерезагрузка отменена, ничего не изменено: &e{reason}"),
+
   TELEPORT_PLAYER_NOT_ONLINE(path("teleport", "player-not-online"), "&cИгрок оффлайн: &e{player}"),
   TELEPORT_FAILED(path("teleport", "teleport-failed"), "&cТелепорт не удался."),
   TELEPORT_SUCCESS_SELF(path("teleport", "success-self"), "&aТелепортирован в &e{name}"),
@@ -0,0 +1,136 @@
+package go.xentany.goworlds.locale;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Objects;
+
+final class MessageTemplate {
+
+  private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+  private final String[] literals;
+  private final String[] placeholders;
+  private final String constant;
+  private final Component component;
+  private final LegacyComponentSerializer serializer;
+
+  private MessageTemplate(final @NotNull String[] literals,
+                          final @NotNull String[] placeholders,
+                          final @NotNull LegacyComponentSerializer serializer) {
+    this.literals = literals;
+    this.placeholders = placeholders;
+    this.serializer = serializer;
+    this.constant = placeholders.length == 0 ? literals[0] : null;
+    this.component = constant != null ? serializer.deserialize(constant) : null;
+  }
+
+  static @NotNull MessageTemplate compile(final @NotNull String input,
+                                          final @NotNull LegacyComponentSerializer serializer) {
+    Objects.requireNonNull(input, "input");
+    Objects.requireNonNull(serializer, "serializer");
+
+    final var literals = new ArrayList<String>();
+    final var placeholders = new ArrayList<String>();
+    final var literal = new StringBuilder(input.length());
+    final var length = input.length();
+    int index = 0;
+
+    while (index < length) {
+      final var currentChar = input.charAt(index);
+
+      if (currentChar == '{') {
+        if (index + 1 < length && input.charAt(index + 1) == '{') {
+          literal.append('{');
+          index += 2;
+
+          continue;
+        }
+
+        final int close = input.indexOf('}', index + 1);
+
+        if (close < 0) {
+          literal.append(input, index, length);
+
+          break;
+        }
+
+        literals.add(lineBreaks(literal));
+        placeholders.add(input.substring(index + 1, close));
+        literal.setLength(0);
+        index = close + 1;
+
+        continue;
+      }
+
+      if (currentChar == '}' && index + 1 < length && input.charAt(index + 1) == '}') {
+        literal.append('}');
+        index += 2;
+
+        continue;
+      }
+
+      literal.append(currentChar);
+      index++;
+    }
+
+    literals.add(lineBreaks(literal));
+
+    return new MessageTemplate(literals.toArray(String[]::new), placeholders.toArray(String[]::new), serializer);
+  }
+
+  @NotNull String text(final @NotNull Object @NotNull ... keyValues) {
+    if (constant != null) {
+      return constant;
+    }
+
+    final var out = BUFFER.get();
+
+    out.setLength(0);
+    appendTo(out, keyValues);
+
+    return out.toString();
+  }
+
+  @NotNull Component component(final @NotNull Object @NotNull ... keyValues) {
+    if (component != null) {
+      return component;
+    }
+
+    return serializer.deserialize(text(keyValues));
+  }
+
+  void appendTo(final @NotNull StringBuilder out, final @NotNull Object @NotNull [] keyValues) {
+    out.append(literals[0]);
+
+    for (int index = 0; index < placeholders.length; index++) {
+      final var placeholder = placeholders[index];
+      final var value = lookup(placeholder, keyValues);
+
+      if (value != null) {
+        out.append(value);
+      } else {
+        out.append('{').append(placeholder).append('}');
+      }
+
+      out.append(literals[index + 1]);
+    }
+  }
+
+  private static @Nullable Object lookup(final @NotNull String placeholder, final @NotNull Object @NotNull [] keyValues) {
+    for (int index = 0; index + 1 < keyValues.length; index += 2) {
+      if (placeholder.equals(keyValues[index])) {
+        return keyValues[index + 1];
+      }
+    }
+
+    return null;
+  }
+
+  private static @NotNull String lineBreaks(final @NotNull StringBuilder literal) {
+    return literal.toString().replace("<br>", "\n");
+  }
+}
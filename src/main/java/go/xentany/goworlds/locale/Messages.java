@@ -5,26 +5,40 @@ import go.xentany.goworlds.config.YamlKit;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class Messages {
 
   private static final String FILE_NAME = "messages.yml";
+  private static final String LOCALE_PREFIX = "messages_";
+  private static final String LOCALE_SUFFIX = ".yml";
   private static final String HEADER = "Auto-generated. Edit texts; new keys are added automatically.";
   private static final LegacyComponentSerializer SERIALIZER = LegacyComponentSerializer.builder()
       .character('&')
       .hexColors()
       .build();
 
-  private static Map<String, Object> root = new LinkedHashMap<>();
+  private static volatile Catalogs catalogs = new Catalogs(compile(Map.of(), null), Map.of());
+  private static volatile Path folder;
+  private static volatile YamlConfigService yaml;
 
   private Messages() {}
 
@@ -35,7 +49,7 @@ public final class Messages {
     try {
       final var file = plugin.getDataFolder().toPath().resolve(FILE_NAME);
 
-      root = YamlKit.deepStringObjectMap(service.load(file, LinkedHashMap.class, LinkedHashMap::new));
+      final var root = YamlKit.deepStringObjectMap(service.load(file, LinkedHashMap.class, LinkedHashMap::new));
 
       var changed = false;
 
@@ -49,72 +63,188 @@ public final class Messages {
       if (changed || !Files.exists(file)) {
         YamlKit.writeWithHeader(root, file, HEADER);
       }
+
+      final var fallback = compile(root, null);
+
+      folder = plugin.getDataFolder().toPath();
+      yaml = Objects.requireNonNull(service, "service");
+      catalogs = new Catalogs(fallback, locales(folder));
     } catch (final Exception exception) {
       plugin.getSLF4JLogger().warn("Failed to initialize messages: {}", exception.getMessage(), exception);
     }
   }
 
-  public static @NotNull String get(final @NotNull MessageKey key) {
-    return get(key, Collections.emptyMap());
-  }
+  public static @NotNull MessageCatalog read() {
+    final var directory = folder;
+    final var service = yaml;
 
-  public static @NotNull String get(final @NotNull MessageKey key, final @NotNull Map<String, Object> vars) {
-    Objects.requireNonNull(key, "key");
-    Objects.requireNonNull(vars, "vars");
+    if (directory == null || service == null) {
+      throw new IllegalStateException("Messages are not initialized");
+    }
+
+    final var root = validated(service, directory.resolve(FILE_NAME));
+    final var locales = locales(directory);
 
-    return apply(stringAt(key.segments(), key.defaultText()), vars);
+    for (final var file : locales.values()) {
+      validated(service, file);
+    }
+
+    return new MessageCatalog(compile(root, null), locales);
   }
 
-  public static @NotNull Component format(final @NotNull MessageKey key) {
-    return format(get(key));
+  public static void publish(final @NotNull MessageCatalog catalog) {
+    Objects.requireNonNull(catalog, "catalog");
+
+    catalogs = new Catalogs(catalog.templates(), catalog.locales());
   }
 
-  public static @NotNull Component format(final @NotNull String message) {
-    return SERIALIZER.deserialize(apply(message, Collections.emptyMap()));
+  public static @NotNull String get(final @NotNull MessageKey key, final @NotNull Object @NotNull ... keyValues) {
+    return template(catalogs.fallback(), key, keyValues).text(keyValues);
   }
 
-  public static @NotNull Component format(final @NotNull MessageKey key, final @NotNull Map<String, Object> vars) {
-    return format(get(key), vars);
+  public static @NotNull String get(final @NotNull CommandSender to,
+                                    final @NotNull MessageKey key,
+                                    final @NotNull Object @NotNull ... keyValues) {
+    return template(catalog(to), key, keyValues).text(keyValues);
   }
 
-  public static @NotNull Component format(final @NotNull String message, final @NotNull Map<String, Object> vars) {
-    Objects.requireNonNull(message, "key");
-    Objects.requireNonNull(vars, "vars");
+  public static @NotNull StringBuilder append(final @NotNull StringBuilder out,
+                                              final @NotNull CommandSender to,
+                                              final @NotNull MessageKey key,
+                                              final @NotNull Object @NotNull ... keyValues) {
+    Objects.requireNonNull(out, "out");
+
+    template(catalog(to), key, keyValues).appendTo(out, keyValues);
 
-    return SERIALIZER.deserialize(apply(message, vars));
+    return out;
   }
 
-  public static void send(final @NotNull CommandSender to,
-                          final @NotNull MessageKey key) {
-    send(to, key, Collections.emptyMap());
+  public static @NotNull Component format(final @NotNull MessageKey key, final @NotNull Object @NotNull ... keyValues) {
+    return template(catalogs.fallback(), key, keyValues).component(keyValues);
+  }
+
+  public static @NotNull Component format(final @NotNull String message) {
+    Objects.requireNonNull(message, "message");
+
+    return SERIALIZER.deserialize(message.replace("<br>", "\n"));
   }
 
   public static void send(final @NotNull CommandSender to,
                           final @NotNull MessageKey key,
-                          final @NotNull Map<String, Object> vars) {
-    Objects.requireNonNull(to, "to");
+                          final @NotNull Object @NotNull ... keyValues) {
+    to.sendMessage(template(catalog(to), key, keyValues).component(keyValues));
+  }
+
+  private static @NotNull MessageTemplate template(final @NotNull Map<MessageKey, MessageTemplate> catalog,
+                                                   final @NotNull MessageKey key,
+                                                   final @NotNull Object @NotNull [] keyValues) {
     Objects.requireNonNull(key, "key");
-    Objects.requireNonNull(vars, "vars");
+    Objects.requireNonNull(keyValues, "keyValues");
 
-    to.sendMessage(format(key, vars));
+    if ((keyValues.length & 1) != 0) {
+      throw new IllegalArgumentException("Placeholders require even number of arguments: key, value, ...");
+    }
+
+    return catalog.get(key);
   }
 
-  public static @NotNull Map<String, Object> vars(final @NotNull Object @NotNull ... keyValues) {
-    Objects.requireNonNull(keyValues, "keyValues is null");
+  private static @NotNull Map<MessageKey, MessageTemplate> catalog(final @NotNull CommandSender to) {
+    Objects.requireNonNull(to, "to");
 
-    if ((keyValues.length & 1) != 0) {
-      throw new IllegalArgumentException("vars requires even number of arguments: key, value, ...");
+    final var current = catalogs;
+
+    if (current.locales().isEmpty() || !(to instanceof final Player player)) {
+      return current.fallback();
+    }
+
+    final var locale = player.locale();
+    final var language = locale.getLanguage().toLowerCase(Locale.ROOT);
+    final var country = locale.getCountry();
+
+    if (!country.isEmpty()) {
+      final var catalog = current.localized(language + "_" + country.toLowerCase(Locale.ROOT));
+
+      if (catalog != null) {
+        return catalog;
+      }
     }
 
-    final var placeholders = new LinkedHashMap<String, Object>(keyValues.length / 2);
+    final var catalog = current.localized(language);
+
+    return catalog != null ? catalog : current.fallback();
+  }
+
+  private static @NotNull Map<String, Path> locales(final @NotNull Path directory) {
+    final var locales = new HashMap<String, Path>();
 
-    for (int index = 0; index < keyValues.length; index += 2) {
-      final var key = Objects.requireNonNull(keyValues[index], "placeholder key at index " + index + " is null");
+    if (!Files.isDirectory(directory)) {
+      return locales;
+    }
 
-      placeholders.put(String.valueOf(key), keyValues[index + 1]);
+    try (final var files = Files.newDirectoryStream(directory, LOCALE_PREFIX + "*" + LOCALE_SUFFIX)) {
+      for (final var file : files) {
+        final var name = file.getFileName().toString();
+        final var tag = name.substring(LOCALE_PREFIX.length(), name.length() - LOCALE_SUFFIX.length())
+            .toLowerCase(Locale.ROOT);
+
+        if (!tag.isEmpty() && Files.isRegularFile(file)) {
+          locales.put(tag, file);
+        }
+      }
+    } catch (final IOException exception) {
+      throw new UncheckedIOException("Failed to list locale files in " + directory, exception);
     }
 
-    return placeholders;
+    return locales;
+  }
+
+  private static @NotNull Map<String, Object> validated(final @NotNull YamlConfigService service,
+                                                        final @NotNull Path file) {
+    final Object loaded;
+
+    try {
+      loaded = service.read(file, LinkedHashMap.class);
+    } catch (final IOException exception) {
+      throw new UncheckedIOException("Failed to read " + file, exception);
+    } catch (final RuntimeException exception) {
+      throw new IllegalStateException("Invalid yaml in " + file.getFileName() + ": " + exception.getMessage(), exception);
+    }
+
+    final var root = loaded == null ? new LinkedHashMap<String, Object>() : YamlKit.deepStringObjectMap(loaded);
+    final var invalid = new ArrayList<String>();
+
+    for (final var key : MessageKey.values()) {
+      final var value = get(root, key.segments());
+
+      if (value instanceof Map<?, ?> || value instanceof Collection<?>) {
+        invalid.add(String.join(".", key.segments()));
+      }
+    }
+
+    if (!invalid.isEmpty()) {
+      throw new IllegalStateException("Invalid messages in " + file.getFileName() + ": " + String.join(", ", invalid));
+    }
+
+    return root;
+  }
+
+  private static @NotNull Map<MessageKey, MessageTemplate> compile(final @NotNull Map<String, Object> tree,
+                                                                   final @Nullable Map<MessageKey, MessageTemplate> fallback) {
+    final var compiled = new EnumMap<MessageKey, MessageTemplate>(MessageKey.class);
+
+    for (final var key : MessageKey.values()) {
+      final var value = get(tree, key.segments());
+
+      if (value != null) {
+        compiled.put(key, MessageTemplate.compile(String.valueOf(value), SERIALIZER));
+      } else if (fallback != null) {
+        compiled.put(key, fallback.get(key));
+      } else {
+        compiled.put(key, MessageTemplate.compile(key.defaultText(), SERIALIZER));
+      }
+    }
+
+    return Collections.unmodifiableMap(compiled);
   }
 
   private static @Nullable Object get(final @NotNull Map<String, Object> tree,
@@ -174,75 +304,28 @@ public final class Messages {
     cursor.put(last, value);
   }
 
-  private static String stringAt(final @NotNull String @NotNull [] segments, final @NotNull String defaultText) {
-    Objects.requireNonNull(segments, "segments is null");
-    Objects.requireNonNull(defaultText, "defaultText");
-
-    final var object = get(root, segments);
-
-    return object == null ? defaultText : String.valueOf(object);
-  }
-
-  private static String apply(final @NotNull String input, final @NotNull Map<String, Object> vars) {
-    Objects.requireNonNull(input, "input is null");
-    Objects.requireNonNull(vars, "vars is null");
-
-
-    String result;
-
-    if (!vars.isEmpty() && input.indexOf('{') >= 0) {
-      final var out = new StringBuilder(input.length() + Math.min(64, 16 * vars.size()));
-      int index = 0, length = input.length();
-
-      while (index < length) {
-        final var currentChar = input.charAt(index);
-
-        if (currentChar == '{') {
-          if (index + 1 < length && input.charAt(index + 1) == '{') {
-            out.append('{');
-            index += 2;
-
-            continue;
-          }
-
-          final int close = input.indexOf('}', index + 1);
-
-          if (close < 0) {
-            out.append(input, index, length);
+  /**
+   * Published message state. Locale files are compiled on first use; the cache only ever holds tags
+   * found on disk, so it is bounded by the number of {@code messages_*.yml} files.
+   */
+  private record Catalogs(@NotNull Map<MessageKey, MessageTemplate> fallback,
+                          @NotNull Map<String, Path> locales,
+                          @NotNull Map<String, Map<MessageKey, MessageTemplate>> loaded) {
 
-            break;
-          }
-
-          final var key = input.substring(index + 1, close);
-          final var value = vars.get(key);
-
-          if (value != null) {
-            out.append(value);
-          } else {
-            out.append(input, index, close + 1);
-          }
-
-          index = close + 1;
-
-          continue;
-        }
-
-        if (currentChar == '}' && index + 1 < length && input.charAt(index + 1) == '}') {
-          out.append('}');
-          index += 2;
+    Catalogs(final @NotNull Map<MessageKey, MessageTemplate> fallback, final @NotNull Map<String, Path> locales) {
+      this(fallback, Map.copyOf(locales), new ConcurrentHashMap<>());
+    }
 
-          continue;
-        }
+    @Nullable Map<MessageKey, MessageTemplate> localized(final @NotNull String tag) {
+      final var file = locales.get(tag);
+      final var service = yaml;
 
-        out.append(currentChar);
-        index++;
+      if (file == null || service == null) {
+        return null;
       }
 
-      result = out.toString();
-    } else {
-      result = input;
+      return loaded.computeIfAbsent(tag, ignored -> compile(
+          YamlKit.deepStringObjectMap(service.load(file, LinkedHashMap.class, LinkedHashMap::new)), fallback));
     }
-
-    return result.replace("<br>", "\n");
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,170 @@
+package go.xentany.goworlds.world.adapter.bukkit.autoload;
+
+import go.xentany.goworlds.world.adapter.bukkit.service.BukkitWorldsService;
+import go.xentany.goworlds.world.domain.WorldLoadPriority;
+import go.xentany.goworlds.world.domain.WorldRecord;
+import go.xentany.goworlds.world.port.WorldsDirectory;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public final class AutoloadPipeline {
+
+  private final Plugin plugin;
+  private final Logger logger;
+  private final BukkitWorldsService service;
+  private final WorldsDirectory directory;
+  private final Executor workers;
+  private final long tickBudgetNanos;
+  private final int progressInterval;
+
+  private final Queue<WorldRecord> ready = new PriorityBlockingQueue<>(64, Comparator.comparing(WorldRecord::priority));
+  private final AtomicIntegerArray preparing = new AtomicIntegerArray(WorldLoadPriority.values().length);
+  private final AtomicInteger skipped = new AtomicInteger();
+  private final AtomicInteger loaded = new AtomicInteger();
+
+  private BukkitTask task;
+  private int total;
+  private int drained;
+  private long startedAt;
+
+  public AutoloadPipeline(final @NotNull Plugin plugin,
+                          final @NotNull Logger logger,
+                          final @NotNull BukkitWorldsService service,
+                          final @NotNull WorldsDirectory directory,
+                          final @NotNull Executor workers,
+                          final long tickBudgetMillis,
+                          final int progressInterval) {
+    this.plugin = Objects.requireNonNull(plugin, "plugin");
+    this.logger = Objects.requireNonNull(logger, "logger");
+    this.service = Objects.requireNonNull(service, "service");
+    this.directory = Objects.requireNonNull(directory, "directory");
+    this.workers = Objects.requireNonNull(workers, "workers");
+    this.tickBudgetNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1L, tickBudgetMillis));
+    this.progressInterval = Math.max(1, progressInterval);
+  }
+
+  public void start(final @NotNull Collection<WorldRecord> records) {
+    if (task != null) {
+      throw new IllegalStateException("Autoload pipeline is already running");
+    }
+
+    final var snapshot = Objects.requireNonNull(records, "records").stream()
+        .filter(record -> record.priority().autoloads())
+        .sorted(Comparator.comparing(WorldRecord::priority))
+        .toList();
+
+    total = snapshot.size();
+    startedAt = System.nanoTime();
+
+    if (total == 0) {
+      logger.info("Autoloaded worlds: 0/0");
+
+      return;
+    }
+
+    for (final var record : snapshot) {
+      preparing.incrementAndGet(record.priority().ordinal());
+    }
+
+    for (final var record : snapshot) {
+      workers.execute(() -> prepare(record));
+    }
+
+    task = Bukkit.getScheduler().runTaskTimer(plugin, this::drain, 1L, 1L);
+  }
+
+  public void cancel() {
+    if (task != null && !task.isCancelled()) {
+      task.cancel();
+
+      logger.info("Autoload cancelled: {}/{} worlds loaded", loaded.get(), total);
+    }
+  }
+
+  private void prepare(final @NotNull WorldRecord record) {
+    try {
+      final var folder = directory.pathOf(record.name());
+
+      if (!Files.isDirectory(folder)) {
+        logger.warn("Autoload skipped: folder not found {}", folder);
+        skipped.incrementAndGet();
+
+        return;
+      }
+
+      if (!directory.looksLikeWorld(folder)) {
+        logger.warn("Autoload: {} has no level.dat, a new world will be generated", record.name());
+      }
+
+      ready.add(record);
+    } catch (final Throwable throwable) {
+      logger.warn("Autoload preparation failed: {}", record.name(), throwable);
+      skipped.incrementAndGet();
+    } finally {
+      preparing.decrementAndGet(record.priority().ordinal());
+    }
+  }
+
+  private void drain() {
+    final long deadline = System.nanoTime() + tickBudgetNanos;
+
+    while (true) {
+      final var head = ready.peek();
+
+      if (head == null || preparingBefore(head.priority().ordinal())) {
+        break;
+      }
+
+      final var record = ready.poll();
+
+      try {
+        service.loadPreparedWorld(record).thenAccept(ok -> {
+          if (ok) {
+            loaded.incrementAndGet();
+          }
+        });
+      } catch (final Throwable throwable) {
+        logger.warn("Autoload failed: {}", record.name(), throwable);
+      }
+
+      if (++drained % progressInterval == 0) {
+        logger.info("Autoload progress: {}/{} ({} loaded)", drained + skipped.get(), total, loaded.get());
+      }
+
+      if (System.nanoTime() >= deadline) {
+        break;
+      }
+    }
+
+    if (!preparingBefore(preparing.length()) && ready.isEmpty()) {
+      task.cancel();
+
+      logger.info("Autoloaded worlds: {}/{} in {} ms", loaded.get(), total,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+  }
+
+  private boolean preparingBefore(final int tiers) {
+    for (int tier = 0; tier < tiers; tier++) {
+      if (preparing.get(tier) > 0) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+}
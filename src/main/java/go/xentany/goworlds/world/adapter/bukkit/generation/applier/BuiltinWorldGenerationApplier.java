@@ -1,11 +1,15 @@
 package go.xentany.goworlds.world.adapter.bukkit.generation.applier;
 
+import go.xentany.goworlds.config.Settings;
+import go.xentany.goworlds.world.adapter.bukkit.generation.generator.VoidChunkGenerator;
 import go.xentany.goworlds.world.domain.WorldGenerator;
 import go.xentany.goworlds.world.domain.WorldEnvironment;
 import go.xentany.goworlds.world.port.generation.WorldGenerationApplier;
+import org.bukkit.Material;
 import org.bukkit.WorldCreator;
 import org.bukkit.WorldType;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
 import java.util.Objects;
@@ -13,9 +17,15 @@ import java.util.Objects;
 public final class BuiltinWorldGenerationApplier implements WorldGenerationApplier {
 
   private final Logger logger;
+  private final VoidChunkGenerator voidGenerator;
 
-  public BuiltinWorldGenerationApplier(final @NotNull Logger logger) {
+  public BuiltinWorldGenerationApplier(final @NotNull Logger logger, final @NotNull Settings settings) {
     this.logger = Objects.requireNonNull(logger, "logger");
+
+    final var section = settings.voidGenerator;
+
+    this.voidGenerator = new VoidChunkGenerator(section.platform ? platform(section.platformMaterial) : null,
+        section.platformRadius, section.platformY);
   }
 
   @Override
@@ -42,8 +52,27 @@ public final class BuiltinWorldGenerationApplier implements WorldGenerationAppli
 
         return true;
       }
+
+      case VOID -> {
+        creator.generator(voidGenerator);
+        creator.generateStructures(false);
+
+        return true;
+      }
     }
 
     return false;
   }
+
+  private @NotNull Material platform(final @Nullable String name) {
+    final var material = name == null ? null : Material.matchMaterial(name);
+
+    if (material == null || !material.isBlock()) {
+      logger.warn("Unknown void platform material {}; using BEDROCK.", name);
+
+      return Material.BEDROCK;
+    }
+
+    return material;
+  }
 }
\ No newline at end of file
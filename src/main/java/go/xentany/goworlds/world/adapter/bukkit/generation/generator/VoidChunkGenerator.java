@@ -0,0 +1,92 @@
+package go.xentany.goworlds.world.adapter.bukkit.generation.generator;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.generator.BlockPopulator;
+import org.bukkit.generator.ChunkGenerator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+public final class VoidChunkGenerator extends ChunkGenerator {
+
+  private final Material platform;
+  private final int radius;
+  private final int platformY;
+
+  public VoidChunkGenerator(final @Nullable Material platform, final int radius, final int platformY) {
+    this.platform = platform;
+    this.radius = Math.max(0, radius);
+    this.platformY = platformY;
+  }
+
+  @Override
+  public @NotNull ChunkData generateChunkData(final @NotNull World world,
+                                             final @NotNull Random random,
+                                             final int chunkX,
+                                             final int chunkZ,
+                                             final @NotNull BiomeGrid biome) {
+    final var data = createChunkData(world);
+
+    if (platform == null) {
+      return data;
+    }
+
+    final var minX = chunkX << 4;
+    final var minZ = chunkZ << 4;
+    final var fromX = Math.max(-radius, minX);
+    final var fromZ = Math.max(-radius, minZ);
+    final var toX = Math.min(radius, minX + 15);
+    final var toZ = Math.min(radius, minZ + 15);
+
+    if (fromX <= toX && fromZ <= toZ) {
+      data.setRegion(fromX - minX, platformY, fromZ - minZ, toX - minX + 1, platformY + 1, toZ - minZ + 1, platform);
+    }
+
+    return data;
+  }
+
+  @Override
+  public @NotNull List<BlockPopulator> getDefaultPopulators(final @NotNull World world) {
+    return List.of();
+  }
+
+  @Override
+  public @NotNull Location getFixedSpawnLocation(final @NotNull World world, final @NotNull Random random) {
+    return new Location(Objects.requireNonNull(world, "world"), 0.5, platformY + 1, 0.5);
+  }
+
+  @Override
+  public boolean canSpawn(final @NotNull World world, final int x, final int z) {
+    return true;
+  }
+
+  @Override
+  public boolean isParallelCapable() {
+    return true;
+  }
+
+  @Override
+  public boolean shouldGenerateCaves() {
+    return false;
+  }
+
+  @Override
+  public boolean shouldGenerateDecorations() {
+    return false;
+  }
+
+  @Override
+  public boolean shouldGenerateMobs() {
+    return false;
+  }
+
+  @Override
+  public boolean shouldGenerateStructures() {
+    return false;
+  }
+}
@@ -0,0 +1,201 @@
+package go.xentany.goworlds.world.adapter.bukkit.governor;
+
+import go.xentany.goworlds.world.domain.WorldLoadPriority;
+import go.xentany.goworlds.world.domain.WorldUnloadMode;
+import go.xentany.goworlds.world.port.WorldPools;
+import go.xentany.goworlds.world.port.WorldsService;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+public final class WorldResourceGovernor implements Listener {
+
+  private final Plugin plugin;
+  private final Logger logger;
+  private final WorldsService service;
+  private final WorldPools pools;
+  private final int maxLoadedWorlds;
+  private final int maxLoadedChunks;
+  private final long checkIntervalTicks;
+  private final Map<String, Long> lastAccess = new HashMap<>();
+  private final Set<String> evicting = new HashSet<>();
+
+  private BukkitTask task;
+
+  public WorldResourceGovernor(final @NotNull Plugin plugin,
+                               final @NotNull Logger logger,
+                               final @NotNull WorldsService service,
+                               final @NotNull WorldPools pools,
+                               final int maxLoadedWorlds,
+                               final int maxLoadedChunks,
+                               final long checkIntervalSeconds) {
+    this.plugin = Objects.requireNonNull(plugin, "plugin");
+    this.logger = Objects.requireNonNull(logger, "logger");
+    this.service = Objects.requireNonNull(service, "service");
+    this.pools = Objects.requireNonNull(pools, "pools");
+    this.maxLoadedWorlds = Math.max(0, maxLoadedWorlds);
+    this.maxLoadedChunks = Math.max(0, maxLoadedChunks);
+    this.checkIntervalTicks = Math.max(1L, checkIntervalSeconds) * 20L;
+  }
+
+  public void start() {
+    for (final var world : Bukkit.getWorlds()) {
+      touch(world);
+    }
+
+    task = Bukkit.getScheduler().runTaskTimer(plugin, this::enforce, checkIntervalTicks, checkIntervalTicks);
+  }
+
+  public void cancel() {
+    if (task != null) {
+      task.cancel();
+    }
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onWorldLoad(final @NotNull WorldLoadEvent event) {
+    touch(event.getWorld());
+    Bukkit.getScheduler().runTask(plugin, this::enforce);
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onWorldUnload(final @NotNull WorldUnloadEvent event) {
+    lastAccess.remove(key(event.getWorld()));
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerChangedWorld(final @NotNull PlayerChangedWorldEvent event) {
+    touch(event.getFrom());
+    touch(event.getPlayer().getWorld());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerJoin(final @NotNull PlayerJoinEvent event) {
+    touch(event.getPlayer().getWorld());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerQuit(final @NotNull PlayerQuitEvent event) {
+    touch(event.getPlayer().getWorld());
+  }
+
+  private void enforce() {
+    final var worlds = Bukkit.getWorlds();
+    var worldCount = worlds.size();
+    var chunkCount = 0;
+
+    for (final var world : worlds) {
+      chunkCount += world.getChunkCount();
+    }
+
+    for (final var name : evicting) {
+      final var world = Bukkit.getWorld(name);
+
+      if (world != null) {
+        worldCount--;
+        chunkCount -= world.getChunkCount();
+      }
+    }
+
+    if (!exceeds(worldCount, chunkCount)) {
+      return;
+    }
+
+    final var now = System.nanoTime();
+    final var candidates = new ArrayList<World>();
+    final var unloading = new HashSet<String>();
+
+    for (final var operation : service.operations()) {
+      if (operation.action().startsWith("unload")) {
+        unloading.add(operation.world().toLowerCase(Locale.ROOT));
+      }
+    }
+
+    for (final var world : worlds) {
+      if (world.getPlayers().isEmpty() && !evicting.contains(key(world)) && !unloading.contains(key(world))
+          && evictable(world)) {
+        candidates.add(world);
+      }
+    }
+
+    candidates.sort(Comparator.comparingLong(world -> lastAccess.getOrDefault(key(world), 0L)));
+
+    for (final var world : candidates) {
+      if (!exceeds(worldCount, chunkCount)) {
+        break;
+      }
+
+      final var name = world.getName();
+      final var chunks = world.getChunkCount();
+      final var idleSeconds = TimeUnit.NANOSECONDS.toSeconds(now - lastAccess.getOrDefault(key(world), now));
+
+      logger.info("Evicting {} (idle {} s, {} chunks): loaded worlds {}/{}, loaded chunks {}/{}",
+          name, idleSeconds, chunks, worldCount, limit(maxLoadedWorlds), chunkCount, limit(maxLoadedChunks));
+
+      evicting.add(key(world));
+      worldCount--;
+      chunkCount -= chunks;
+
+      service.unloadWorldAsync(name, WorldUnloadMode.SAVE).thenAcceptAsync(unloaded -> {
+        evicting.remove(name.toLowerCase(Locale.ROOT));
+
+        if (!unloaded) {
+          logger.warn("Eviction of {} failed", name);
+        }
+      }, Bukkit.getScheduler().getMainThreadExecutor(plugin));
+    }
+
+    if (exceeds(worldCount, chunkCount)) {
+      logger.warn("Resource budget still exceeded after eviction: loaded worlds {}/{}, loaded chunks {}/{}",
+          worldCount, limit(maxLoadedWorlds), chunkCount, limit(maxLoadedChunks));
+    }
+  }
+
+  private boolean exceeds(final int worldCount, final int chunkCount) {
+    return (maxLoadedWorlds > 0 && worldCount > maxLoadedWorlds)
+        || (maxLoadedChunks > 0 && chunkCount > maxLoadedChunks);
+  }
+
+  private boolean evictable(final @NotNull World world) {
+    if (pools.owns(world.getName())) {
+      return false;
+    }
+
+    return service.repository().optionalWorld(world.getName())
+        .map(record -> record.priority() != WorldLoadPriority.CRITICAL)
+        .orElse(false);
+  }
+
+  private void touch(final @NotNull World world) {
+    lastAccess.put(key(world), System.nanoTime());
+  }
+
+  private static @NotNull String key(final @NotNull World world) {
+    return world.getName().toLowerCase(Locale.ROOT);
+  }
+
+  private static @NotNull String limit(final int value) {
+    return value > 0 ? String.valueOf(value) : "∞";
+  }
+}
@@ -0,0 +1,149 @@
+package go.xentany.goworlds.world.adapter.bukkit.hibernation;
+
+import go.xentany.goworlds.world.domain.WorldLoadPriority;
+import go.xentany.goworlds.world.domain.WorldUnloadMode;
+import go.xentany.goworlds.world.port.WorldsService;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+public final class IdleWorldHibernator implements Listener {
+
+  private final Plugin plugin;
+  private final Logger logger;
+  private final WorldsService service;
+  private final long idleTicks;
+  private final WorldUnloadMode mode;
+  private final Map<String, BukkitTask> timers = new HashMap<>();
+
+  public IdleWorldHibernator(final @NotNull Plugin plugin,
+                             final @NotNull Logger logger,
+                             final @NotNull WorldsService service,
+                             final long idleSeconds,
+                             final @NotNull WorldUnloadMode mode) {
+    this.plugin = Objects.requireNonNull(plugin, "plugin");
+    this.logger = Objects.requireNonNull(logger, "logger");
+    this.service = Objects.requireNonNull(service, "service");
+    this.idleTicks = Math.max(1L, idleSeconds) * 20L;
+    this.mode = Objects.requireNonNull(mode, "mode");
+  }
+
+  public void start() {
+    for (final var world : Bukkit.getWorlds()) {
+      if (world.getPlayers().isEmpty()) {
+        schedule(world);
+      }
+    }
+  }
+
+  public void cancel() {
+    for (final var timer : timers.values()) {
+      timer.cancel();
+    }
+
+    timers.clear();
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onWorldLoad(final @NotNull WorldLoadEvent event) {
+    schedule(event.getWorld());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onWorldUnload(final @NotNull WorldUnloadEvent event) {
+    unschedule(event.getWorld());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerChangedWorld(final @NotNull PlayerChangedWorldEvent event) {
+    unschedule(event.getPlayer().getWorld());
+
+    final var from = event.getFrom();
+
+    if (from.getPlayers().isEmpty()) {
+      schedule(from);
+    }
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerJoin(final @NotNull PlayerJoinEvent event) {
+    unschedule(event.getPlayer().getWorld());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerQuit(final @NotNull PlayerQuitEvent event) {
+    final var player = event.getPlayer();
+    final var world = player.getWorld();
+
+    for (final var other : world.getPlayers()) {
+      if (!other.equals(player)) {
+        return;
+      }
+    }
+
+    schedule(world);
+  }
+
+  private void schedule(final @NotNull World world) {
+    final var name = world.getName();
+
+    if (!hibernates(name)) {
+      return;
+    }
+
+    final var key = name.toLowerCase(Locale.ROOT);
+    final var previous = timers.put(key, Bukkit.getScheduler().runTaskLater(plugin, () -> hibernate(key, name), idleTicks));
+
+    if (previous != null) {
+      previous.cancel();
+    }
+  }
+
+  private void unschedule(final @NotNull World world) {
+    final var timer = timers.remove(world.getName().toLowerCase(Locale.ROOT));
+
+    if (timer != null) {
+      timer.cancel();
+    }
+  }
+
+  private void hibernate(final @NotNull String key, final @NotNull String name) {
+    timers.remove(key);
+
+    final var world = Bukkit.getWorld(name);
+
+    if (world == null || !world.getPlayers().isEmpty() || !hibernates(name)) {
+      return;
+    }
+
+    logger.info("Hibernating idle world {}", name);
+
+    service.unloadWorldAsync(name, mode).thenAccept(unloaded -> {
+      if (!unloaded) {
+        logger.warn("Failed to hibernate idle world {}", name);
+      }
+    });
+  }
+
+  private boolean hibernates(final @NotNull String name) {
+    return service.repository().optionalWorld(name)
+        .map(record -> record.hibernates() && record.priority() != WorldLoadPriority.CRITICAL)
+        .orElse(false);
+  }
+}
@@ -0,0 +1,47 @@
+package go.xentany.goworlds.world.adapter.bukkit.index;
+
+import go.xentany.goworlds.world.port.LoadedWorlds;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.UnmodifiableView;
+
+import java.util.Collections;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+public final class BukkitLoadedWorlds implements LoadedWorlds, Listener {
+
+  private final NavigableSet<String> names = new ConcurrentSkipListSet<>(String.CASE_INSENSITIVE_ORDER);
+
+  public BukkitLoadedWorlds() {
+    for (final var world : Bukkit.getWorlds()) {
+      names.add(world.getName());
+    }
+  }
+
+  @Override
+  public boolean isLoaded(final @NotNull String name) {
+    return names.contains(Objects.requireNonNull(name, "name"));
+  }
+
+  @Override
+  public @NotNull @UnmodifiableView NavigableSet<String> names() {
+    return Collections.unmodifiableNavigableSet(names);
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onWorldLoad(final @NotNull WorldLoadEvent event) {
+    names.add(event.getWorld().getName());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onWorldUnload(final @NotNull WorldUnloadEvent event) {
+    names.remove(event.getWorld().getName());
+  }
+}
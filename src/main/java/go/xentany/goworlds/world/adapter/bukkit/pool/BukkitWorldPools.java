@@ -0,0 +1,155 @@
+package go.xentany.goworlds.world.adapter.bukkit.pool;
+
+import go.xentany.goworlds.config.Settings;
+import go.xentany.goworlds.world.domain.WorldPoolStatus;
+import go.xentany.goworlds.world.port.WorldPools;
+import go.xentany.goworlds.world.port.WorldsDirectory;
+import go.xentany.goworlds.world.port.WorldsService;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+public final class BukkitWorldPools implements WorldPools, Listener {
+
+  private final Plugin plugin;
+  private final long adjustIntervalTicks;
+  private final Map<String, WorldInstancePool> pools = new LinkedHashMap<>();
+
+  private BukkitTask task;
+
+  public BukkitWorldPools(final @NotNull Plugin plugin,
+                          final @NotNull Logger logger,
+                          final @NotNull WorldsService service,
+                          final @NotNull WorldsDirectory directory,
+                          final @NotNull Executor workers,
+                          final @NotNull Settings settings) {
+    this.plugin = Objects.requireNonNull(plugin, "plugin");
+    Objects.requireNonNull(logger, "logger");
+    Objects.requireNonNull(service, "service");
+    Objects.requireNonNull(directory, "directory");
+    Objects.requireNonNull(workers, "workers");
+
+    final var section = settings.pools;
+    final var mainThread = Bukkit.getScheduler().getMainThreadExecutor(plugin);
+
+    this.adjustIntervalTicks = Math.max(1L, section.adjustIntervalSeconds) * 20L;
+
+    for (final var pool : section.templates) {
+      if (pool.template == null || pool.template.isBlank()) {
+        logger.warn("Ignoring an instance pool without a template");
+
+        continue;
+      }
+
+      pools.put(key(pool.template), new WorldInstancePool(pool.template, logger, service, directory, mainThread,
+          workers, pool.minReady, pool.maxReady, pool.maxInstances, section.demandWindowSeconds,
+          section.adjustIntervalSeconds));
+    }
+  }
+
+  public void start() {
+    if (pools.isEmpty()) {
+      return;
+    }
+
+    for (final var pool : pools.values()) {
+      pool.start();
+    }
+
+    task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+      for (final var pool : pools.values()) {
+        pool.adjust();
+      }
+    }, adjustIntervalTicks, adjustIntervalTicks);
+  }
+
+  public void cancel() {
+    if (task != null) {
+      task.cancel();
+    }
+  }
+
+  @Override
+  public @NotNull Optional<World> acquire(final @NotNull String template) {
+    final var pool = pools.get(key(template));
+
+    return pool == null ? Optional.empty() : pool.acquire();
+  }
+
+  @Override
+  public boolean release(final @NotNull String world) {
+    Objects.requireNonNull(world, "world");
+
+    for (final var pool : pools.values()) {
+      if (pool.release(world)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  @Override
+  public boolean owns(final @NotNull String world) {
+    Objects.requireNonNull(world, "world");
+
+    for (final var pool : pools.values()) {
+      if (pool.owns(world)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  @Override
+  public @NotNull List<String> templates() {
+    final var templates = new ArrayList<String>(pools.size());
+
+    for (final var pool : pools.values()) {
+      templates.add(pool.template());
+    }
+
+    return templates;
+  }
+
+  @Override
+  public @NotNull List<WorldPoolStatus> status() {
+    final var status = new ArrayList<WorldPoolStatus>(pools.size());
+
+    for (final var pool : pools.values()) {
+      status.add(pool.status());
+    }
+
+    return status;
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onWorldUnload(final @NotNull WorldUnloadEvent event) {
+    final var name = event.getWorld().getName();
+
+    for (final var pool : pools.values()) {
+      pool.unloaded(name);
+    }
+  }
+
+  private static @NotNull String key(final @NotNull String template) {
+    return Objects.requireNonNull(template, "template").toLowerCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,257 @@
+package go.xentany.goworlds.world.adapter.bukkit.pool;
+
+import go.xentany.goworlds.world.domain.WorldLoadPriority;
+import go.xentany.goworlds.world.domain.WorldPoolStatus;
+import go.xentany.goworlds.world.domain.WorldRecord;
+import go.xentany.goworlds.world.domain.WorldUnloadMode;
+import go.xentany.goworlds.world.port.WorldsDirectory;
+import go.xentany.goworlds.world.port.WorldsService;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+final class WorldInstancePool {
+
+  private static final String INSTANCE_SEPARATOR = ".instance-";
+  private static final double WARMUP_SMOOTHING = 0.3;
+
+  private final String template;
+  private final Logger logger;
+  private final WorldsService service;
+  private final WorldsDirectory directory;
+  private final Executor mainThread;
+  private final Executor workers;
+  private final int minReady;
+  private final int maxReady;
+  private final int maxInstances;
+  private final long demandWindowNanos;
+  private final long backoffNanos;
+  private final Pattern instanceName;
+  private final ArrayDeque<String> ready = new ArrayDeque<>();
+  private final Set<String> leased = new HashSet<>();
+  private final Set<String> warming = new HashSet<>();
+  private final ArrayDeque<String> spare = new ArrayDeque<>();
+  private final ArrayDeque<Long> demand = new ArrayDeque<>();
+
+  private int nextIndex = 1;
+  private double warmupMillis = 2_000.0;
+  private long backoffUntil;
+
+  WorldInstancePool(final @NotNull String template,
+                    final @NotNull Logger logger,
+                    final @NotNull WorldsService service,
+                    final @NotNull WorldsDirectory directory,
+                    final @NotNull Executor mainThread,
+                    final @NotNull Executor workers,
+                    final int minReady,
+                    final int maxReady,
+                    final int maxInstances,
+                    final long demandWindowSeconds,
+                    final long backoffSeconds) {
+    this.template = template;
+    this.logger = logger;
+    this.service = service;
+    this.directory = directory;
+    this.mainThread = mainThread;
+    this.workers = workers;
+    this.minReady = Math.max(0, minReady);
+    this.maxReady = Math.max(this.minReady, maxReady);
+    this.maxInstances = Math.max(1, maxInstances);
+    this.demandWindowNanos = TimeUnit.SECONDS.toNanos(Math.max(1L, demandWindowSeconds));
+    this.backoffNanos = TimeUnit.SECONDS.toNanos(Math.max(1L, backoffSeconds));
+    this.instanceName = Pattern.compile(Pattern.quote(template + INSTANCE_SEPARATOR) + "(\\d{1,9})");
+  }
+
+  @NotNull String template() {
+    return template;
+  }
+
+  void start() {
+    for (final var record : service.repository().worlds(true, true)) {
+      final var matcher = instanceName.matcher(record.name());
+
+      if (matcher.matches()) {
+        spare.addLast(record.name());
+        nextIndex = Math.max(nextIndex, Integer.parseInt(matcher.group(1)) + 1);
+      }
+    }
+
+    if (!spare.isEmpty()) {
+      logger.info("Found {} leftover instances of {}, they will be reset", spare.size(), template);
+    }
+
+    adjust();
+  }
+
+  @NotNull Optional<World> acquire() {
+    final var now = System.nanoTime();
+
+    demand.addLast(now);
+
+    Optional<World> acquired = Optional.empty();
+
+    while (!ready.isEmpty()) {
+      final var name = ready.pollFirst();
+      final var world = Bukkit.getWorld(name);
+
+      if (world == null) {
+        spare.addLast(name);
+
+        continue;
+      }
+
+      leased.add(name);
+      acquired = Optional.of(world);
+
+      break;
+    }
+
+    replenish(now);
+
+    return acquired;
+  }
+
+  boolean release(final @NotNull String name) {
+    if (!leased.remove(name)) {
+      return false;
+    }
+
+    if (ready.size() + warming.size() < target(System.nanoTime())) {
+      warm(name);
+    } else {
+      retire(name);
+    }
+
+    return true;
+  }
+
+  void adjust() {
+    final var now = System.nanoTime();
+
+    replenish(now);
+
+    if (ready.size() > target(now)) {
+      retire(ready.pollLast());
+    } else if (!spare.isEmpty() && warming.isEmpty()) {
+      retire(spare.pollFirst());
+    }
+  }
+
+  boolean owns(final @NotNull String name) {
+    return instanceName.matcher(name).matches();
+  }
+
+  void unloaded(final @NotNull String name) {
+    if (ready.remove(name) || leased.remove(name)) {
+      spare.addLast(name);
+    }
+  }
+
+  @NotNull WorldPoolStatus status() {
+    return new WorldPoolStatus(template, ready.size(), leased.size(), warming.size(), target(System.nanoTime()));
+  }
+
+  private int target(final long now) {
+    while (!demand.isEmpty() && now - demand.peekFirst() > demandWindowNanos) {
+      demand.pollFirst();
+    }
+
+    final var perSecond = demand.size() / (double) TimeUnit.NANOSECONDS.toSeconds(demandWindowNanos);
+    final var needed = (int) Math.ceil(perSecond * warmupMillis / 1_000.0);
+
+    return Math.max(minReady, Math.min(maxReady, needed));
+  }
+
+  private void replenish(final long now) {
+    if (now < backoffUntil) {
+      return;
+    }
+
+    final var target = target(now);
+
+    while (ready.size() + warming.size() < target && ready.size() + warming.size() + leased.size() < maxInstances) {
+      warm(spare.isEmpty() ? nextName() : spare.pollFirst());
+    }
+  }
+
+  private void warm(final @NotNull String name) {
+    final var startedAt = System.nanoTime();
+
+    warming.add(name);
+
+    service.unloadWorldAsync(name, WorldUnloadMode.DISCARD)
+        .thenCompose(ignored -> service.deleteWorldAsync(name).removed())
+        .thenCompose(ignored -> service.cloneWorldAsync(template, name))
+        .thenCompose(world -> world.isEmpty()
+            ? CompletableFuture.completedFuture(world)
+            : CompletableFuture.supplyAsync(() -> {
+              pin(name);
+
+              return world;
+            }, workers))
+        .thenAcceptAsync(world -> {
+          warming.remove(name);
+
+          if (world.isEmpty()) {
+            logger.warn("Failed to warm {} from {}, retrying in {} s", name, template,
+                TimeUnit.NANOSECONDS.toSeconds(backoffNanos));
+            spare.addLast(name);
+            backoffUntil = System.nanoTime() + backoffNanos;
+
+            return;
+          }
+
+          warmupMillis += WARMUP_SMOOTHING * (TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) - warmupMillis);
+          ready.addLast(name);
+        }, mainThread);
+  }
+
+  private void retire(final @NotNull String name) {
+    logger.info("Retiring {} from the {} pool ({} ready, target {})", name, template, ready.size(),
+        target(System.nanoTime()));
+
+    service.unloadWorldAsync(name, WorldUnloadMode.DISCARD)
+        .thenCompose(ignored -> service.deleteWorldAsync(name).removed())
+        .thenAccept(removed -> {
+          if (!removed) {
+            logger.warn("Failed to retire {} from the {} pool", name, template);
+          }
+        });
+  }
+
+  private void pin(final @NotNull String name) {
+    final var repository = service.repository();
+
+    repository.optionalWorld(name).ifPresent(record -> {
+      repository.upsert(WorldRecord.of(name, record.environment(), record.generator(), WorldLoadPriority.ON_DEMAND, false));
+
+      try {
+        repository.save();
+      } catch (final RuntimeException exception) {
+        logger.warn("Failed to save pinned instance {}", name, exception);
+      }
+    });
+  }
+
+  private @NotNull String nextName() {
+    while (true) {
+      final var name = template + INSTANCE_SEPARATOR + nextIndex++;
+
+      if (!service.repository().isManaged(name) && Bukkit.getWorld(name) == null
+          && !Files.exists(directory.pathOf(name))) {
+        return name;
+      }
+    }
+  }
+}
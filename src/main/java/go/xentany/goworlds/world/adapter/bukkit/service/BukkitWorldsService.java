@@ -1,39 +1,101 @@
 package go.xentany.goworlds.world.adapter.bukkit.service;
 
+import go.xentany.goworlds.config.Settings;
 import go.xentany.goworlds.world.adapter.bukkit.mapping.BukkitWorldEnvironmentMapper;
+import go.xentany.goworlds.world.domain.WorldDeletion;
 import go.xentany.goworlds.world.domain.WorldEnvironment;
+import go.xentany.goworlds.world.domain.WorldGenerator;
+import go.xentany.goworlds.world.domain.WorldOperation;
 import go.xentany.goworlds.world.domain.WorldRecord;
+import go.xentany.goworlds.world.domain.WorldUnloadMode;
+import go.xentany.goworlds.world.port.LoadedWorlds;
 import go.xentany.goworlds.world.port.WorldsDirectory;
 import go.xentany.goworlds.world.port.WorldsRepository;
 import go.xentany.goworlds.world.port.WorldsService;
 import go.xentany.goworlds.world.port.generation.WorldGenerationApplier;
 import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.WorldCreator;
+import org.bukkit.entity.Entity;
 import org.bukkit.event.player.PlayerTeleportEvent;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 public final class BukkitWorldsService implements WorldsService {
 
   private final WorldsDirectory worldsDirectory;
   private final Logger logger;
   private final WorldsRepository repository;
+  private final LoadedWorlds loadedWorlds;
   private final WorldGenerationApplier generationApplier;
+  private final Executor workers;
+  private final Executor mainThread;
+  private final TickScheduler scheduler;
+  private final Set<WorldEvacuation> evacuations = ConcurrentHashMap.newKeySet();
+  private final Set<WorldDrain> drains = ConcurrentHashMap.newKeySet();
+  private final WorldOperationQueue operations;
+  private final int prefetchRadius;
+  private final List<String> fallbackWorlds;
+  private final int evacuationBatchSize;
+  private final long evacuationTimeoutMillis;
+  private final long drainTickBudgetMillis;
+  private final int drainFinalChunks;
+  private final long drainTimeoutMillis;
 
   public BukkitWorldsService(final @NotNull WorldsDirectory directory,
                              final @NotNull Logger logger,
                              final @NotNull WorldsRepository repository,
-                             final @NotNull WorldGenerationApplier generationApplier) {
+                             final @NotNull LoadedWorlds loadedWorlds,
+                             final @NotNull WorldGenerationApplier generationApplier,
+                             final @NotNull Executor workers,
+                             final @NotNull Executor mainThread,
+                             final @NotNull TickScheduler scheduler,
+                             final @NotNull Settings settings) {
     this.worldsDirectory = Objects.requireNonNull(directory, "directory");
     this.logger = Objects.requireNonNull(logger, "logger");
     this.repository = Objects.requireNonNull(repository, "repository");
+    this.loadedWorlds = Objects.requireNonNull(loadedWorlds, "loadedWorlds");
     this.generationApplier = Objects.requireNonNull(generationApplier, "generationApplier");
+    this.workers = Objects.requireNonNull(workers, "workers");
+    this.operations = new WorldOperationQueue(workers);
+    this.mainThread = Objects.requireNonNull(mainThread, "mainThread");
+    this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+    this.prefetchRadius = Math.max(0, Math.min(4, settings.teleport.prefetchRadius));
+    this.fallbackWorlds = List.copyOf(settings.unload.fallbackWorlds);
+    this.evacuationBatchSize = settings.unload.evacuationBatchSize;
+    this.evacuationTimeoutMillis = settings.unload.evacuationTimeoutMillis;
+    this.drainTickBudgetMillis = settings.unload.drainTickBudgetMillis;
+    this.drainFinalChunks = settings.unload.drainFinalChunks;
+    this.drainTimeoutMillis = settings.unload.drainTimeoutMillis;
+  }
+
+  /**
+   * Stops evacuations and drains that are still ticking; their unloads complete as failed.
+   */
+  public void cancel() {
+    for (final var evacuation : List.copyOf(evacuations)) {
+      evacuation.cancel();
+    }
+
+    for (final var drain : List.copyOf(drains)) {
+      drain.cancel();
+    }
   }
 
   @Override
@@ -49,11 +111,7 @@ public final class BukkitWorldsService implements WorldsService {
   public @NotNull Optional<World> importWorld(final @NotNull String name,
                                               final @NotNull WorldEnvironment environment,
                                               final @NotNull String generator) {
-    final var directory = worldsDirectory.pathOf(name);
-
-    if (!worldsDirectory.looksLikeWorld(directory)) {
-      logger.warn("Import failed: {} (no level.dat)", name);
-
+    if (!isImportable(name)) {
       return Optional.empty();
     }
 
@@ -63,20 +121,68 @@ public final class BukkitWorldsService implements WorldsService {
   }
 
   @Override
-  public boolean loadWorld(final @NotNull WorldRecord record) {
-    if (Bukkit.getWorld(record.name()) != null) {
-      return false;
-    }
+  public @NotNull CompletableFuture<Optional<World>> createWorldAsync(final @NotNull String name,
+                                                                     final @NotNull WorldEnvironment environment,
+                                                                     final @NotNull String generator) {
+    final var record = WorldRecord.of(name, environment, generator);
 
-    final var directory = worldsDirectory.pathOf(record.name());
+    final var future = operations.submit(name, "create " + environment.name() + " " + record.generator(),
+        () -> createAndRegisterWorldAsync(record));
 
-    if (!Files.isDirectory(directory)) {
-      logger.warn("Load failed: folder not found {}", directory);
+    return guard(future, name, Optional.empty());
+  }
 
-      return false;
+  @Override
+  public @NotNull CompletableFuture<Optional<World>> importWorldAsync(final @NotNull String name,
+                                                                     final @NotNull WorldEnvironment environment,
+                                                                     final @NotNull String generator) {
+    final var record = WorldRecord.of(name, environment, generator);
+    final var future = operations.submit(name, "import " + environment.name() + " " + record.generator(),
+        () -> CompletableFuture.supplyAsync(() -> isImportable(name), workers)
+            .thenCompose(importable -> importable
+                ? createAndRegisterWorldAsync(record)
+                : CompletableFuture.completedFuture(Optional.<World>empty())));
+
+    return guard(future, name, Optional.empty());
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Optional<World>> cloneWorldAsync(final @NotNull String source,
+                                                                    final @NotNull String name) {
+    Objects.requireNonNull(source, "source");
+
+    final var future = operations.submit(name, "clone " + source, () -> cloneAndRegisterWorldAsync(source, name));
+
+    return guard(future, name, Optional.empty());
+  }
+
+  @Override
+  public boolean loadWorld(final @NotNull WorldRecord record) {
+    final var loaded = operations.runIfIdle(record.name(), "load",
+        () -> !loadedWorlds.isLoaded(record.name()) && hasFolder(record) && createAndRegisterWorld(record).isPresent());
+
+    if (loaded.isEmpty()) {
+      logger.warn("Load refused: another operation is queued for {}", record.name());
     }
 
-    return createAndRegisterWorld(record).isPresent();
+    return loaded.orElse(false);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> loadWorldAsync(final @NotNull WorldRecord record) {
+    final var future = operations.submit(record.name(), "load",
+        () -> CompletableFuture.supplyAsync(() -> !loadedWorlds.isLoaded(record.name()) && hasFolder(record), workers)
+            .thenCompose(loadable -> loadable
+                ? createAndRegisterWorldAsync(record).thenApply(Optional::isPresent)
+                : CompletableFuture.completedFuture(false)));
+
+    return guard(future, record.name(), false);
+  }
+
+  public @NotNull CompletableFuture<Boolean> loadPreparedWorld(final @NotNull WorldRecord record) {
+    return operations.runIfIdle(record.name(), "load", () -> createAndRegisterWorld(record).isPresent())
+        .map(CompletableFuture::completedFuture)
+        .orElseGet(() -> loadWorldAsync(record));
   }
 
   @Override
@@ -87,60 +193,238 @@ public final class BukkitWorldsService implements WorldsService {
       return false;
     }
 
-    final var fallback = Bukkit.getWorlds().stream()
-        .filter(otherWorld -> !otherWorld.equals(world))
-        .findFirst()
-        .orElse(null);
+    final var players = List.copyOf(world.getPlayers());
 
-    if (fallback == null) {
-      logger.warn("There is no other world for players to teleport to. Cancel upload {}", name);
+    if (!players.isEmpty()) {
+      final var targets = fallbackTargets(world);
 
-      return false;
-    }
+      if (targets.isEmpty()) {
+        return false;
+      }
 
-    final var target = fallback.getSpawnLocation();
+      for (int index = 0; index < players.size(); index++) {
+        final var player = players.get(index);
 
-    for (final var player : List.copyOf(world.getPlayers())) {
-      if (player.isInsideVehicle()) {
-        player.leaveVehicle();
-      }
+        if (player.isInsideVehicle()) {
+          player.leaveVehicle();
+        }
 
-      player.teleport(target, PlayerTeleportEvent.TeleportCause.PLUGIN);
+        player.teleport(targets.get(index % targets.size()).getSpawnLocation(), PlayerTeleportEvent.TeleportCause.PLUGIN);
+      }
     }
 
-    final var ok = Bukkit.unloadWorld(world, save);
+    return unload(world, save);
+  }
 
-    if (!ok) {
-      logger.warn("Unload failed: {}", name);
-    }
+  @Override
+  public @NotNull CompletableFuture<Boolean> unloadWorldAsync(final @NotNull String name,
+                                                              final @NotNull WorldUnloadMode mode) {
+    Objects.requireNonNull(mode, "mode");
 
-    return ok;
+    final var future = operations.submit(name, "unload " + mode.name().toLowerCase(Locale.ROOT),
+        () -> CompletableFuture.supplyAsync(() -> Bukkit.getWorld(name), mainThread)
+            .thenCompose(world -> world == null
+                ? CompletableFuture.completedFuture(false)
+                : evacuateAndUnload(world, mode)));
+
+    return guard(future, name, false);
   }
 
   @Override
-  public boolean deleteWorld(final @NotNull String name) {
-    if (Bukkit.getWorld(name) != null) {
+  public @NotNull WorldDeletion deleteWorld(final @NotNull String name) {
+    if (loadedWorlds.isLoaded(name)) {
       logger.warn("Delete refused: world is loaded ({})", name);
-      return false;
+      return WorldDeletion.refused();
     }
 
+    return trashWorld(name);
+  }
+
+  @Override
+  public @NotNull WorldDeletion deleteWorldAsync(final @NotNull String name) {
+    final var future = guard(operations.submit(name, "delete",
+        () -> CompletableFuture.supplyAsync(() -> loadedWorlds.isLoaded(name), mainThread)
+            .thenApplyAsync(loaded -> {
+              if (loaded) {
+                logger.warn("Delete refused: world is loaded ({})", name);
+                return WorldDeletion.refused();
+              }
+
+              return trashWorld(name);
+            }, workers)), name, WorldDeletion.refused());
+
+    return new WorldDeletion(future.thenCompose(WorldDeletion::removed), future.thenCompose(WorldDeletion::purged));
+  }
+
+  private @NotNull WorldDeletion trashWorld(final @NotNull String name) {
     if (!repository.isManaged(name)) {
       logger.warn("Delete refused: world is not managed by GoWorlds (safe delete): {}", name);
-      return false;
+      return WorldDeletion.refused();
     }
 
     final var directory = worldsDirectory.pathOf(name);
+    final CompletableFuture<Boolean> purge;
 
-    if (!worldsDirectory.deleteRecursively(directory)) {
-      logger.warn("Delete failed (file system error): {}", directory);
-      return false;
+    if (Files.exists(directory)) {
+      final var trashed = worldsDirectory.moveToTrash(directory);
+
+      if (trashed.isEmpty()) {
+        logger.warn("Delete failed (could not move to trash): {}", directory);
+        return WorldDeletion.refused();
+      }
+
+      final var path = trashed.get();
+
+      purge = worldsDirectory.purge(path).thenApply(ok -> {
+        if (!ok) {
+          logger.warn("Purge failed (file system error), leftovers remain in {}", path);
+        }
+
+        return ok;
+      });
+    } else {
+      purge = CompletableFuture.completedFuture(true);
     }
 
     if (repository.remove(name)) {
-      repository.save();
+      persist();
     }
 
-    return true;
+    return new WorldDeletion(CompletableFuture.completedFuture(true), purge);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> snapshotWorldAsync(final @NotNull String name,
+                                                                final @NotNull String snapshot) {
+    Objects.requireNonNull(snapshot, "snapshot");
+
+    final var future = operations.submit(name, "snapshot " + snapshot, () -> {
+      if (!repository.isManaged(name)) {
+        logger.warn("Snapshot refused: world is not managed by GoWorlds: {}", name);
+
+        return CompletableFuture.completedFuture(false);
+      }
+
+      if (loadedWorlds.isLoaded(name)) {
+        logger.warn("Snapshot refused: {} is loaded, unload it first", name);
+
+        return CompletableFuture.completedFuture(false);
+      }
+
+      final var startedAt = System.nanoTime();
+
+      return worldsDirectory.snapshot(name, snapshot)
+          .thenApply(taken -> {
+            if (taken) {
+              logger.info("Saved snapshot {} of {} in {} ms", snapshot, name,
+                  TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            } else {
+              logger.warn("Snapshot {} of {} failed", snapshot, name);
+            }
+
+            return taken;
+          });
+    });
+
+    return guard(future, name, false);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> resetWorldAsync(final @NotNull String name, final @NotNull String snapshot) {
+    Objects.requireNonNull(snapshot, "snapshot");
+
+    final var future = operations.submit(name, "reset " + snapshot, () -> {
+      final var record = repository.optionalWorld(name);
+
+      if (record.isEmpty()) {
+        logger.warn("Reset refused: world is not managed by GoWorlds: {}", name);
+
+        return CompletableFuture.completedFuture(false);
+      }
+
+      final var startedAt = System.nanoTime();
+
+      return CompletableFuture.supplyAsync(() -> worldsDirectory.snapshots(name).contains(snapshot), workers)
+          .thenComposeAsync(exists -> {
+            if (!exists) {
+              logger.warn("Reset failed: {} has no snapshot {}", name, snapshot);
+
+              return CompletableFuture.completedFuture(false);
+            }
+
+            final var world = Bukkit.getWorld(name);
+
+            return world == null
+                ? CompletableFuture.completedFuture(true)
+                : evacuateAndUnload(world, WorldUnloadMode.DISCARD);
+          }, mainThread)
+          .thenCompose(unloaded -> unloaded
+              ? worldsDirectory.restore(name, snapshot)
+              : CompletableFuture.completedFuture(OptionalInt.empty()))
+          .thenCompose(restored -> {
+            if (restored.isEmpty()) {
+              logger.warn("Reset of {} from snapshot {} failed", name, snapshot);
+
+              return CompletableFuture.completedFuture(false);
+            }
+
+            logger.info("Restored {} from snapshot {} in {} ms ({} files replaced)", name, snapshot,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), restored.getAsInt());
+
+            return createAndRegisterWorldAsync(record.get()).thenApply(Optional::isPresent);
+          });
+    });
+
+    return guard(future, name, false);
+  }
+
+  @Override
+  public @NotNull List<String> snapshots(final @NotNull String name) {
+    return worldsDirectory.snapshots(name);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> teleportAsync(final @NotNull Entity target,
+                                                           final @NotNull Location destination) {
+    Objects.requireNonNull(target, "target");
+    Objects.requireNonNull(destination, "destination");
+
+    final var world = Objects.requireNonNull(destination.getWorld(), "destination.world");
+    final var chunkX = destination.getBlockX() >> 4;
+    final var chunkZ = destination.getBlockZ() >> 4;
+    final var chunks = new ArrayList<CompletableFuture<Chunk>>((2 * prefetchRadius + 1) * (2 * prefetchRadius + 1));
+
+    for (int dx = -prefetchRadius; dx <= prefetchRadius; dx++) {
+      for (int dz = -prefetchRadius; dz <= prefetchRadius; dz++) {
+        chunks.add(world.getChunkAtAsync(chunkX + dx, chunkZ + dz));
+      }
+    }
+
+    final var future = CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new))
+        .thenComposeAsync(ignored -> target.isValid()
+            ? target.teleportAsync(destination, PlayerTeleportEvent.TeleportCause.PLUGIN)
+            : CompletableFuture.completedFuture(false), mainThread);
+
+    return guard(future, world.getName(), false);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> teleportAsync(final @NotNull Entity target, final @NotNull String world) {
+    Objects.requireNonNull(target, "target");
+    Objects.requireNonNull(world, "world");
+
+    final var future = CompletableFuture.supplyAsync(() -> Optional.ofNullable(Bukkit.getWorld(world)), mainThread)
+        .thenCompose(loaded -> loaded.isPresent() ? CompletableFuture.completedFuture(loaded) : loadOnDemand(world))
+        .thenCompose(loaded -> loaded.isPresent()
+            ? teleportAsync(target, loaded.get().getSpawnLocation())
+            : CompletableFuture.completedFuture(false));
+
+    return guard(future, world, false);
+  }
+
+  @Override
+  public @NotNull List<WorldOperation> operations() {
+    return operations.operations();
   }
 
   @Override
@@ -148,7 +432,157 @@ public final class BukkitWorldsService implements WorldsService {
     return repository;
   }
 
+  @Override
+  public boolean setHibernates(final @NotNull String name, final boolean hibernates) {
+    final var known = repository.optionalWorld(name);
+
+    if (known.isEmpty()) {
+      return false;
+    }
+
+    final var record = known.get();
+
+    if (record.hibernates() != hibernates) {
+      repository.upsert(WorldRecord.of(record.name(), record.environment(), record.generator(), record.priority(),
+          hibernates));
+      persist();
+    }
+
+    return true;
+  }
+
+  @Override
+  public @NotNull LoadedWorlds loadedWorlds() {
+    return loadedWorlds;
+  }
+
   private Optional<World> createAndRegisterWorld(final @NotNull WorldRecord record) {
+    final var world = createBukkitWorld(record);
+
+    world.ifPresent(ignored -> register(record));
+
+    return world;
+  }
+
+  private @NotNull CompletableFuture<Optional<World>> createAndRegisterWorldAsync(final @NotNull WorldRecord record) {
+    return CompletableFuture.supplyAsync(() -> createBukkitWorld(record), mainThread)
+        .thenApplyAsync(world -> {
+          world.ifPresent(ignored -> register(record));
+
+          return world;
+        }, workers);
+  }
+
+  private @NotNull CompletableFuture<Optional<World>> cloneAndRegisterWorldAsync(final @NotNull String source,
+                                                                                 final @NotNull String name) {
+    final var startedAt = System.nanoTime();
+
+    return CompletableFuture.supplyAsync(() -> cloneSource(source, name), workers)
+        .thenCompose(folder -> folder.isEmpty()
+            ? CompletableFuture.completedFuture(false)
+            : worldsDirectory.copy(folder.get(), worldsDirectory.pathOf(name)))
+        .thenCompose(copied -> {
+          if (!copied) {
+            logger.warn("Clone failed: {} -> {}", source, name);
+
+            return CompletableFuture.completedFuture(Optional.<World>empty());
+          }
+
+          logger.info("Cloned {} -> {} in {} ms", source, name,
+              TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+          return createAndRegisterWorldAsync(cloneRecord(source, name));
+        });
+  }
+
+  private @NotNull Optional<Path> cloneSource(final @NotNull String source, final @NotNull String name) {
+    if (repository.isManaged(name) || Files.exists(worldsDirectory.pathOf(name))) {
+      logger.warn("Clone refused: {} already exists", name);
+
+      return Optional.empty();
+    }
+
+    final var loaded = loadedWorlds.isLoaded(source);
+    final var world = worldsDirectory.pathOf(source);
+
+    if (!loaded && worldsDirectory.looksLikeWorld(world)) {
+      return Optional.of(world);
+    }
+
+    final var template = worldsDirectory.templateOf(source);
+
+    if (worldsDirectory.looksLikeWorld(template)) {
+      return Optional.of(template);
+    }
+
+    if (loaded) {
+      logger.warn("Clone refused: {} is loaded, unload it first", source);
+    } else {
+      logger.warn("Clone failed: no world or template named {} (no level.dat)", source);
+    }
+
+    return Optional.empty();
+  }
+
+  private @NotNull WorldRecord cloneRecord(final @NotNull String source, final @NotNull String name) {
+    final var known = repository.optionalWorld(source);
+
+    if (known.isPresent()) {
+      final var record = known.get();
+
+      return WorldRecord.of(name, record.environment(), record.generator(), record.priority(), record.hibernates());
+    }
+
+    final var folder = worldsDirectory.pathOf(name);
+    final WorldEnvironment environment;
+
+    if (Files.isDirectory(folder.resolve("DIM-1"))) {
+      environment = WorldEnvironment.NETHER;
+    } else if (Files.isDirectory(folder.resolve("DIM1"))) {
+      environment = WorldEnvironment.THE_END;
+    } else {
+      environment = WorldEnvironment.NORMAL;
+    }
+
+    return WorldRecord.of(name, environment, WorldGenerator.NORMAL.name());
+  }
+
+  private @NotNull CompletableFuture<Optional<World>> loadOnDemand(final @NotNull String name) {
+    final var record = repository.optionalWorld(name);
+
+    if (record.isEmpty()) {
+      return CompletableFuture.completedFuture(Optional.empty());
+    }
+
+    logger.info("Loading {} on demand", record.get().name());
+
+    return loadWorldAsync(record.get())
+        .thenApplyAsync(ignored -> Optional.ofNullable(Bukkit.getWorld(name)), mainThread);
+  }
+
+  private boolean isImportable(final @NotNull String name) {
+    if (!worldsDirectory.looksLikeWorld(worldsDirectory.pathOf(name))) {
+      logger.warn("Import failed: {} (no level.dat)", name);
+
+      return false;
+    }
+
+    return true;
+  }
+
+  private boolean hasFolder(final @NotNull WorldRecord record) {
+    final var directory = worldsDirectory.pathOf(record.name());
+
+    if (!Files.isDirectory(directory)) {
+      logger.warn("Load failed: folder not found {}", directory);
+
+      return false;
+    }
+
+    return true;
+  }
+
+  private @NotNull Optional<World> createBukkitWorld(final @NotNull WorldRecord record) {
     final var existing = Bukkit.getWorld(record.name());
 
     if (existing != null) {
@@ -159,15 +593,148 @@ public final class BukkitWorldsService implements WorldsService {
 
     generationApplier.apply(creator, record.environment(), record.generator());
 
-    final var world = Bukkit.createWorld(creator);
+    return Optional.ofNullable(Bukkit.createWorld(creator));
+  }
 
-    if (world == null) {
-      return Optional.empty();
+  private @NotNull CompletableFuture<Boolean> evacuate(final @NotNull World world) {
+    if (world.getPlayers().isEmpty()) {
+      return CompletableFuture.completedFuture(true);
     }
 
-    repository.upsert(record);
-    repository.save();
+    final var targets = fallbackTargets(world);
+
+    if (targets.isEmpty()) {
+      return CompletableFuture.completedFuture(false);
+    }
+
+    final var evacuation = WorldEvacuation.start(scheduler, world, targets, this, evacuationBatchSize,
+        evacuationTimeoutMillis);
+
+    evacuations.add(evacuation);
+
+    return evacuation.result()
+        .whenComplete((emptied, throwable) -> evacuations.remove(evacuation))
+        .thenApply(emptied -> {
+          if (!emptied) {
+            logger.warn("Evacuation of {} timed out with {} players left", world.getName(), world.getPlayers().size());
+          }
+
+          return emptied;
+        });
+  }
+
+  private @NotNull CompletableFuture<Boolean> evacuateAndUnload(final @NotNull World world,
+                                                                final @NotNull WorldUnloadMode mode) {
+    return evacuate(world).thenComposeAsync(emptied -> {
+      if (!emptied) {
+        return CompletableFuture.completedFuture(false);
+      }
+
+      return mode == WorldUnloadMode.DRAIN
+          ? drainAndUnload(world)
+          : CompletableFuture.completedFuture(unload(world, mode.saves()));
+    }, mainThread);
+  }
+
+  private @NotNull CompletableFuture<Boolean> drainAndUnload(final @NotNull World world) {
+    final var autoSave = world.isAutoSave();
+    final var keepSpawn = world.getKeepSpawnInMemory();
+    final var startedAt = System.nanoTime();
+
+    final var drain = WorldDrain.start(scheduler, world, drainTickBudgetMillis, drainFinalChunks, drainTimeoutMillis);
+
+    drains.add(drain);
+
+    return drain.result()
+        .whenComplete((remaining, throwable) -> drains.remove(drain))
+        .thenApply(remaining -> {
+          if (remaining == WorldDrain.CANCELLED) {
+            world.setAutoSave(autoSave);
+            world.setKeepSpawnInMemory(keepSpawn);
+
+            return false;
+          }
+
+          logger.info("Drained {} in {} ms, {} chunks left for the final unload", world.getName(),
+              TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), remaining);
+
+          if (unload(world, true)) {
+            return true;
+          }
+
+          world.setAutoSave(autoSave);
+          world.setKeepSpawnInMemory(keepSpawn);
+
+          return false;
+        });
+  }
+
+  private @NotNull List<World> fallbackTargets(final @NotNull World world) {
+    final var targets = new ArrayList<World>();
+
+    for (final var name : fallbackWorlds) {
+      final var target = Bukkit.getWorld(name);
+
+      if (target != null && !target.equals(world)) {
+        targets.add(target);
+      }
+    }
+
+    if (targets.isEmpty()) {
+      for (final var target : Bukkit.getWorlds()) {
+        if (!target.equals(world)) {
+          targets.add(target);
+
+          break;
+        }
+      }
+    }
+
+    if (targets.isEmpty()) {
+      logger.warn("There is no other world for players to teleport to. Cancel unload {}", world.getName());
+    }
+
+    return targets;
+  }
+
+  private boolean unload(final @NotNull World world, final boolean save) {
+    final var ok = Bukkit.unloadWorld(world, save);
+
+    if (!ok) {
+      logger.warn("Unload failed: {}", world.getName());
+    }
+
+    return ok;
+  }
+
+  private void register(final @NotNull WorldRecord record) {
+    final var known = repository.optionalWorld(record.name());
+    final var merged = known
+        .map(existing -> WorldRecord.of(record.name(), record.environment(), record.generator(),
+            existing.priority(), existing.hibernates()))
+        .orElse(record);
+
+    if (known.isEmpty() || !known.get().equals(merged)) {
+      repository.upsert(merged);
+      persist();
+    }
+  }
+
+  private void persist() {
+    try {
+      repository.save();
+    } catch (final RuntimeException exception) {
+      logger.error("Failed to save worlds", exception);
+    }
+  }
+
+  private <T> @NotNull CompletableFuture<T> guard(final @NotNull CompletableFuture<T> future,
+                                                  final @NotNull String name,
+                                                  final T fallback) {
+    return future.exceptionally(throwable -> {
+      logger.warn("World operation failed: {}", name, throwable);
 
-    return Optional.of(world);
+      return fallback;
+    });
   }
 }
\ No newline at end of file
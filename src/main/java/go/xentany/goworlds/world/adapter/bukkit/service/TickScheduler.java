@@ -0,0 +1,13 @@
+package go.xentany.goworlds.world.adapter.bukkit.service;
+
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Runs a task on the server thread every tick, starting with the next one, until it is cancelled.
+ */
+@FunctionalInterface
+public interface TickScheduler {
+
+  @NotNull BukkitTask everyTick(final @NotNull Runnable task);
+}
@@ -0,0 +1,89 @@
+package go.xentany.goworlds.world.adapter.bukkit.service;
+
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+final class WorldDrain {
+
+  static final int CANCELLED = -1;
+
+  private final World world;
+  private final long tickBudgetNanos;
+  private final int finalChunks;
+  private final long deadline;
+  private final CompletableFuture<Integer> result = new CompletableFuture<>();
+
+  private BukkitTask task;
+  private Chunk[] chunks = new Chunk[0];
+  private int index;
+  private int lastPassSize = Integer.MAX_VALUE;
+
+  private WorldDrain(final @NotNull World world,
+                     final long tickBudgetMillis,
+                     final int finalChunks,
+                     final long timeoutMillis) {
+    this.world = world;
+    this.tickBudgetNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1L, tickBudgetMillis));
+    this.finalChunks = Math.max(0, finalChunks);
+    this.deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0L, timeoutMillis));
+  }
+
+  static @NotNull WorldDrain start(final @NotNull TickScheduler scheduler,
+                                   final @NotNull World world,
+                                   final long tickBudgetMillis,
+                                   final int finalChunks,
+                                   final long timeoutMillis) {
+    Objects.requireNonNull(scheduler, "scheduler");
+    Objects.requireNonNull(world, "world");
+
+    final var drain = new WorldDrain(world, tickBudgetMillis, finalChunks, timeoutMillis);
+
+    world.setAutoSave(false);
+    world.setKeepSpawnInMemory(false);
+    drain.task = scheduler.everyTick(drain::tick);
+
+    return drain;
+  }
+
+  @NotNull CompletableFuture<Integer> result() {
+    return result;
+  }
+
+  void cancel() {
+    task.cancel();
+    result.complete(CANCELLED);
+  }
+
+  private void tick() {
+    final var now = System.nanoTime();
+    final var tickDeadline = now + tickBudgetNanos;
+
+    if (index >= chunks.length) {
+      chunks = world.getLoadedChunks();
+      index = 0;
+
+      if (chunks.length <= finalChunks || chunks.length >= lastPassSize || now >= deadline) {
+        task.cancel();
+        result.complete(chunks.length);
+
+        return;
+      }
+
+      lastPassSize = chunks.length;
+    }
+
+    while (index < chunks.length && System.nanoTime() < tickDeadline) {
+      final var chunk = chunks[index++];
+
+      if (chunk.isLoaded() && !chunk.isForceLoaded()) {
+        world.unloadChunk(chunk.getX(), chunk.getZ(), true);
+      }
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package go.xentany.goworlds.world.adapter.bukkit.service;
+
+import org.bukkit.World;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+final class WorldEvacuation {
+
+  private final World world;
+  private final List<World> targets;
+  private final BukkitWorldsService service;
+  private final int batchSize;
+  private final long deadline;
+  private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+  private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+  private BukkitTask task;
+  private int next;
+
+  private WorldEvacuation(final @NotNull World world,
+                          final @NotNull List<World> targets,
+                          final @NotNull BukkitWorldsService service,
+                          final int batchSize,
+                          final long timeoutMillis) {
+    this.world = world;
+    this.targets = targets;
+    this.service = service;
+    this.batchSize = Math.max(1, batchSize);
+    this.deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0L, timeoutMillis));
+  }
+
+  static @NotNull WorldEvacuation start(final @NotNull TickScheduler scheduler,
+                                       final @NotNull World world,
+                                       final @NotNull List<World> targets,
+                                       final @NotNull BukkitWorldsService service,
+                                       final int batchSize,
+                                       final long timeoutMillis) {
+    Objects.requireNonNull(scheduler, "scheduler");
+    Objects.requireNonNull(world, "world");
+    Objects.requireNonNull(service, "service");
+
+    if (Objects.requireNonNull(targets, "targets").isEmpty()) {
+      throw new IllegalArgumentException("targets is empty");
+    }
+
+    final var evacuation = new WorldEvacuation(world, List.copyOf(targets), service, batchSize, timeoutMillis);
+
+    evacuation.tick();
+
+    if (!evacuation.result.isDone()) {
+      evacuation.task = scheduler.everyTick(evacuation::tick);
+    }
+
+    return evacuation;
+  }
+
+  @NotNull CompletableFuture<Boolean> result() {
+    return result;
+  }
+
+  void cancel() {
+    finish(false);
+  }
+
+  private void tick() {
+    final var players = world.getPlayers();
+
+    if (players.isEmpty()) {
+      finish(true);
+
+      return;
+    }
+
+    if (System.nanoTime() >= deadline) {
+      for (final var player : List.copyOf(players)) {
+        if (player.isInsideVehicle()) {
+          player.leaveVehicle();
+        }
+
+        player.teleport(nextTarget().getSpawnLocation(), PlayerTeleportEvent.TeleportCause.PLUGIN);
+      }
+
+      finish(world.getPlayers().isEmpty());
+
+      return;
+    }
+
+    var issued = 0;
+
+    for (final var player : List.copyOf(players)) {
+      if (issued >= batchSize) {
+        break;
+      }
+
+      final var id = player.getUniqueId();
+
+      if (!pending.add(id)) {
+        continue;
+      }
+
+      issued++;
+
+      if (player.isInsideVehicle()) {
+        player.leaveVehicle();
+      }
+
+      service.teleportAsync(player, nextTarget().getSpawnLocation()).whenComplete((ok, throwable) -> pending.remove(id));
+    }
+  }
+
+  private @NotNull World nextTarget() {
+    final var target = targets.get(next % targets.size());
+
+    next++;
+
+    return target;
+  }
+
+  private void finish(final boolean emptied) {
+    if (task != null) {
+      task.cancel();
+    }
+
+    result.complete(emptied);
+  }
+}
@@ -0,0 +1,158 @@
+package go.xentany.goworlds.world.adapter.bukkit.service;
+
+import go.xentany.goworlds.world.domain.WorldOperation;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs operations on the same world one at a time in submission order.
+ *
+ * <p>Every action on a world is serialized on purpose: each one either changes the world folder or
+ * its loaded state, or reads the folder while another action may move it. A submission that repeats
+ * the action at the tail of the queue shares that entry's result instead of running again. An
+ * operation is started on the executor, never while the queue's lock is held.
+ *
+ * <p>{@link #runIfIdle} lets a caller that must stay on its own thread, such as a world load on the
+ * server thread, take the world's slot for the duration of a synchronous call when nothing else is
+ * queued for that world.
+ */
+final class WorldOperationQueue {
+
+  private final Map<String, Slot> slots = new HashMap<>();
+  private final Executor executor;
+
+  WorldOperationQueue(final @NotNull Executor executor) {
+    this.executor = Objects.requireNonNull(executor, "executor");
+  }
+
+  @SuppressWarnings("unchecked")
+  synchronized <T> @NotNull CompletableFuture<T> submit(final @NotNull String world,
+                                                        final @NotNull String action,
+                                                        final @NotNull Supplier<CompletableFuture<T>> operation) {
+    Objects.requireNonNull(world, "world");
+    Objects.requireNonNull(action, "action");
+    Objects.requireNonNull(operation, "operation");
+
+    final var key = world.toLowerCase(Locale.ROOT);
+    final var slot = slots.computeIfAbsent(key, ignored -> new Slot());
+    final var last = slot.entries.peekLast();
+
+    if (last != null && last.action.equals(action)) {
+      return (CompletableFuture<T>) last.result;
+    }
+
+    final var entry = new Entry(world, action);
+    final var result = slot.tail.handle((ignored, throwable) -> null).thenComposeAsync(ignored -> {
+      entry.startedAt = System.nanoTime();
+      entry.running = true;
+
+      return operation.get();
+    }, executor);
+
+    entry.result = result;
+    slot.entries.addLast(entry);
+    slot.tail = result;
+
+    result.whenComplete((ignored, throwable) -> finish(key, slot, entry));
+
+    return result;
+  }
+
+  <T> @NotNull Optional<T> runIfIdle(final @NotNull String world,
+                                     final @NotNull String action,
+                                     final @NotNull Supplier<T> operation) {
+    Objects.requireNonNull(world, "world");
+    Objects.requireNonNull(action, "action");
+    Objects.requireNonNull(operation, "operation");
+
+    final var key = world.toLowerCase(Locale.ROOT);
+    final var slot = new Slot();
+    final var entry = new Entry(world, action);
+    final var result = new CompletableFuture<T>();
+
+    synchronized (this) {
+      if (slots.containsKey(key)) {
+        return Optional.empty();
+      }
+
+      entry.startedAt = System.nanoTime();
+      entry.running = true;
+      entry.result = result;
+      slot.entries.addLast(entry);
+      slot.tail = result;
+      slots.put(key, slot);
+    }
+
+    try {
+      final var value = operation.get();
+
+      result.complete(value);
+
+      return Optional.ofNullable(value);
+    } catch (final Throwable throwable) {
+      result.completeExceptionally(throwable);
+
+      throw throwable;
+    } finally {
+      finish(key, slot, entry);
+    }
+  }
+
+  synchronized @NotNull List<WorldOperation> operations() {
+    final var now = System.nanoTime();
+    final var operations = new ArrayList<WorldOperation>();
+
+    for (final var slot : slots.values()) {
+      for (final var entry : slot.entries) {
+        final var since = entry.running ? entry.startedAt : entry.queuedAt;
+
+        operations.add(new WorldOperation(entry.world, entry.action, entry.running,
+            TimeUnit.NANOSECONDS.toMillis(now - since)));
+      }
+    }
+
+    return operations;
+  }
+
+  private synchronized void finish(final @NotNull String key, final @NotNull Slot slot, final @NotNull Entry entry) {
+    slot.entries.remove(entry);
+
+    if (slot.entries.isEmpty() && slots.get(key) == slot) {
+      slots.remove(key);
+    }
+  }
+
+  private static final class Slot {
+
+    private final Deque<Entry> entries = new ArrayDeque<>();
+    private CompletableFuture<?> tail = CompletableFuture.completedFuture(null);
+  }
+
+  private static final class Entry {
+
+    private final String world;
+    private final String action;
+    private final long queuedAt = System.nanoTime();
+    private volatile boolean running;
+    private volatile long startedAt;
+    private CompletableFuture<?> result;
+
+    private Entry(final @NotNull String world, final @NotNull String action) {
+      this.world = world;
+      this.action = action;
+    }
+  }
+}
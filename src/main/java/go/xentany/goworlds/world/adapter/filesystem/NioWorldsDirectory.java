@@ -4,25 +4,71 @@ import go.xentany.goworlds.world.port.WorldsDirectory;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.zip.CRC32C;
 
 public final class NioWorldsDirectory implements WorldsDirectory {
 
+  private static final String TRASH_FOLDER = ".goworlds-trash";
+  private static final int PURGE_BATCH_SIZE = 64;
+  private static final int COPY_BATCH_SIZE = 16;
+  private static final Set<String> COPY_SKIPPED = Set.of("session.lock", "uid.dat");
+  private static final Set<String> REGION_FOLDERS = Set.of("region", "entities", "poi");
+  private static final String MANIFEST = ".goworlds-manifest";
+  private static final int MANIFEST_MAGIC = 0x4757534D;
+  private static final int HASH_BUFFER_SIZE = 1 << 16;
+
   private final Path container;
+  private final Path templates;
+  private final Path snapshots;
+  private final Path trash;
+  private final Executor workers;
 
-  public NioWorldsDirectory(final @NotNull Path container) {
+  public NioWorldsDirectory(final @NotNull Path container,
+                            final @NotNull Path templates,
+                            final @NotNull Path snapshots,
+                            final @NotNull Executor workers) {
     this.container = Objects.requireNonNull(container, "container");
+    this.templates = Objects.requireNonNull(templates, "templates");
+    this.snapshots = Objects.requireNonNull(snapshots, "snapshots");
+    this.trash = container.resolve(TRASH_FOLDER);
+    this.workers = Objects.requireNonNull(workers, "workers");
   }
 
   @Override
   public @NotNull Path pathOf(final @NotNull String name) {
-    return container.resolve(Objects.requireNonNull(name, "name"));
+    return inside(container, name);
+  }
+
+  @Override
+  public @NotNull Path templateOf(final @NotNull String name) {
+    return inside(templates, name);
   }
 
   @Override
@@ -68,4 +114,473 @@ public final class NioWorldsDirectory implements WorldsDirectory {
 
     return true;
   }
-}
\ No newline at end of file
+
+  @Override
+  public @NotNull Optional<Path> moveToTrash(final @NotNull Path folder) {
+    final var source = Objects.requireNonNull(folder, "folder");
+
+    if (!Files.exists(source)) {
+      return Optional.empty();
+    }
+
+    try {
+      Files.createDirectories(trash);
+
+      final var target = trash.resolve(source.getFileName() + "." + System.nanoTime());
+
+      try {
+        Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+      } catch (final AtomicMoveNotSupportedException exception) {
+        Files.move(source, target);
+      }
+
+      return Optional.of(target);
+    } catch (final IOException exception) {
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> copy(final @NotNull Path sourceDirectory,
+                                                  final @NotNull Path targetDirectory) {
+    final var source = Objects.requireNonNull(sourceDirectory, "sourceDirectory");
+    final var target = Objects.requireNonNull(targetDirectory, "targetDirectory");
+
+    return CompletableFuture.supplyAsync(() -> Files.exists(target) ? null : tree(source), workers).thenCompose(tree -> {
+      if (tree == null) {
+        return CompletableFuture.completedFuture(false);
+      }
+
+      return CompletableFuture.supplyAsync(() -> {
+        try {
+          for (final var directory : tree.directories()) {
+            Files.createDirectories(target.resolve(source.relativize(directory).toString()));
+          }
+        } catch (final IOException exception) {
+          throw new UncheckedIOException(exception);
+        }
+
+        return tree.files();
+      }, workers).thenCompose(files -> {
+        final var batches = new ArrayList<CompletableFuture<Boolean>>();
+
+        for (int from = 0; from < files.size(); from += COPY_BATCH_SIZE) {
+          final var batch = files.subList(from, Math.min(from + COPY_BATCH_SIZE, files.size()));
+
+          batches.add(CompletableFuture.supplyAsync(() -> copyAll(batch, source, target), workers));
+        }
+
+        return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+            .thenApply(ignored -> batches.stream().allMatch(CompletableFuture::join));
+      }).exceptionally(throwable -> false).thenApplyAsync(copied -> {
+        if (!copied) {
+          deleteRecursively(target);
+        }
+
+        return copied;
+      }, workers);
+    }).exceptionally(throwable -> false);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> snapshot(final @NotNull String name, final @NotNull String snapshot) {
+    final var world = pathOf(name);
+    final var target = snapshotOf(name, snapshot);
+    final var staging = target.resolveSibling(snapshot + ".tmp-" + System.nanoTime());
+
+    return CompletableFuture.supplyAsync(() -> looksLikeWorld(world), workers)
+        .thenCompose(exists -> exists ? copy(world, staging) : CompletableFuture.completedFuture(false))
+        .thenCompose(copied -> {
+          if (!copied) {
+            return CompletableFuture.completedFuture(false);
+          }
+
+          return CompletableFuture.supplyAsync(() -> regionFiles(tree(staging).files()), workers)
+              .thenCompose(files -> {
+                final var batches = new ArrayList<CompletableFuture<Map<String, ManifestEntry>>>();
+
+                for (int from = 0; from < files.size(); from += COPY_BATCH_SIZE) {
+                  final var batch = files.subList(from, Math.min(from + COPY_BATCH_SIZE, files.size()));
+
+                  batches.add(CompletableFuture.supplyAsync(() -> describeAll(batch, staging), workers));
+                }
+
+                return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new)).thenApplyAsync(ignored -> {
+                  final var manifest = new HashMap<String, ManifestEntry>(files.size() * 2);
+
+                  for (final var batch : batches) {
+                    manifest.putAll(batch.join());
+                  }
+
+                  try {
+                    writeManifest(staging.resolve(MANIFEST), manifest);
+                    publish(staging, target);
+                  } catch (final IOException exception) {
+                    throw new UncheckedIOException(exception);
+                  }
+
+                  return true;
+                }, workers);
+              })
+              .exceptionally(throwable -> {
+                deleteRecursively(staging);
+
+                return false;
+              });
+        })
+        .exceptionally(throwable -> false);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<OptionalInt> restore(final @NotNull String name, final @NotNull String snapshot) {
+    final var world = pathOf(name);
+    final var source = snapshotOf(name, snapshot);
+
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return readManifest(source.resolve(MANIFEST));
+      } catch (final IOException exception) {
+        throw new UncheckedIOException(exception);
+      }
+    }, workers).thenCompose(manifest -> {
+      final var files = tree(source).files();
+      final var stale = new ArrayList<Path>();
+
+      for (final var file : regionFiles(tree(world).files())) {
+        if (!manifest.containsKey(relative(world, file))) {
+          stale.add(file);
+        }
+      }
+
+      final var batches = new ArrayList<CompletableFuture<Integer>>();
+
+      for (int from = 0; from < files.size(); from += COPY_BATCH_SIZE) {
+        final var batch = files.subList(from, Math.min(from + COPY_BATCH_SIZE, files.size()));
+
+        batches.add(CompletableFuture.supplyAsync(() -> restoreAll(batch, source, world, manifest), workers));
+      }
+
+      batches.add(CompletableFuture.supplyAsync(() -> {
+        if (!deleteAll(stale)) {
+          throw new IllegalStateException("Failed to delete region files created after the snapshot");
+        }
+
+        return stale.size();
+      }, workers));
+
+      return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+          .thenApply(ignored -> OptionalInt.of(batches.stream().mapToInt(CompletableFuture::join).sum()));
+    }).exceptionally(throwable -> OptionalInt.empty());
+  }
+
+  @Override
+  public @NotNull List<String> snapshots(final @NotNull String name) {
+    final var folder = snapshots.resolve(Objects.requireNonNull(name, "name"));
+    final var result = new ArrayList<String>();
+
+    if (!Files.isDirectory(folder)) {
+      return result;
+    }
+
+    try (final var entries = Files.newDirectoryStream(folder)) {
+      for (final var entry : entries) {
+        final var snapshot = entry.getFileName().toString();
+
+        if (!snapshot.contains(".tmp-") && !snapshot.contains(".old-") && Files.isRegularFile(entry.resolve(MANIFEST))) {
+          result.add(snapshot);
+        }
+      }
+    } catch (final IOException exception) {
+      return result;
+    }
+
+    result.sort(String.CASE_INSENSITIVE_ORDER);
+
+    return result;
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> purge(final @NotNull Path rootDirectory) {
+    final var root = Objects.requireNonNull(rootDirectory, "rootDirectory");
+
+    return CompletableFuture.supplyAsync(() -> tree(root), workers).thenCompose(tree -> {
+      final var batches = new ArrayList<CompletableFuture<Boolean>>();
+
+      for (int from = 0; from < tree.files().size(); from += PURGE_BATCH_SIZE) {
+        final var batch = tree.files().subList(from, Math.min(from + PURGE_BATCH_SIZE, tree.files().size()));
+
+        batches.add(CompletableFuture.supplyAsync(() -> deleteAll(batch), workers));
+      }
+
+      return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new)).thenApplyAsync(ignored -> {
+        final var files = batches.stream().allMatch(CompletableFuture::join);
+
+        return deleteAll(tree.directories()) && files;
+      }, workers);
+    }).exceptionally(throwable -> false);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> purgeTrash() {
+    if (!Files.isDirectory(trash)) {
+      return CompletableFuture.completedFuture(true);
+    }
+
+    final var purges = new ArrayList<CompletableFuture<Boolean>>();
+
+    try (final var entries = Files.newDirectoryStream(trash)) {
+      for (final var entry : entries) {
+        purges.add(purge(entry));
+      }
+    } catch (final IOException exception) {
+      return CompletableFuture.completedFuture(false);
+    }
+
+    return CompletableFuture.allOf(purges.toArray(CompletableFuture[]::new))
+        .thenApply(ignored -> purges.stream().allMatch(CompletableFuture::join));
+  }
+
+  private @NotNull Tree tree(final @NotNull Path root) {
+    final var files = new ArrayList<Path>();
+    final var directories = new ArrayList<Path>();
+
+    if (!Files.exists(root)) {
+      return new Tree(files, directories);
+    }
+
+    try {
+      Files.walkFileTree(root, new SimpleFileVisitor<>() {
+
+        @Override
+        public @NotNull FileVisitResult visitFile(final @NotNull Path file,
+                                                  final @NotNull BasicFileAttributes attributes) {
+          files.add(file);
+
+          return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public @NotNull FileVisitResult postVisitDirectory(final @NotNull Path directory,
+                                                           final @Nullable IOException exception) {
+          directories.add(directory);
+
+          return FileVisitResult.CONTINUE;
+        }
+      });
+    } catch (final IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+
+    return new Tree(files, directories);
+  }
+
+  private static boolean copyAll(final @NotNull List<Path> files,
+                                 final @NotNull Path source,
+                                 final @NotNull Path target) {
+    var ok = true;
+
+    for (final var file : files) {
+      final var name = file.getFileName().toString();
+
+      if (COPY_SKIPPED.contains(name)) {
+        continue;
+      }
+
+      final var destination = target.resolve(source.relativize(file).toString());
+
+      try {
+        Files.copy(file, destination, StandardCopyOption.COPY_ATTRIBUTES);
+      } catch (final IOException exception) {
+        ok = false;
+      }
+    }
+
+    return ok;
+  }
+
+  private static @NotNull Map<String, ManifestEntry> describeAll(final @NotNull List<Path> files,
+                                                                 final @NotNull Path root) {
+    final var buffer = ByteBuffer.allocateDirect(HASH_BUFFER_SIZE);
+    final var entries = new HashMap<String, ManifestEntry>(files.size() * 2);
+
+    try {
+      for (final var file : files) {
+        final var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+
+        entries.put(relative(root, file), new ManifestEntry(attributes.size(),
+            attributes.lastModifiedTime().toMillis(), checksum(file, buffer)));
+      }
+    } catch (final IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+
+    return entries;
+  }
+
+  private static int restoreAll(final @NotNull List<Path> files,
+                                final @NotNull Path source,
+                                final @NotNull Path target,
+                                final @NotNull Map<String, ManifestEntry> manifest) {
+    final var buffer = ByteBuffer.allocateDirect(HASH_BUFFER_SIZE);
+    var replaced = 0;
+
+    try {
+      for (final var file : files) {
+        final var path = relative(source, file);
+
+        if (path.equals(MANIFEST)) {
+          continue;
+        }
+
+        final var entry = manifest.get(path);
+        final var destination = target.resolve(path);
+
+        if (entry != null && unchanged(destination, entry, buffer)) {
+          continue;
+        }
+
+        Files.createDirectories(destination.getParent());
+        Files.copy(file, destination, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+        replaced++;
+      }
+    } catch (final IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+
+    return replaced;
+  }
+
+  private static boolean unchanged(final @NotNull Path file,
+                                   final @NotNull ManifestEntry entry,
+                                   final @NotNull ByteBuffer buffer) throws IOException {
+    final BasicFileAttributes attributes;
+
+    try {
+      attributes = Files.readAttributes(file, BasicFileAttributes.class);
+    } catch (final NoSuchFileException exception) {
+      return false;
+    }
+
+    if (attributes.size() != entry.size()) {
+      return false;
+    }
+
+    return attributes.lastModifiedTime().toMillis() == entry.modified() || checksum(file, buffer) == entry.checksum();
+  }
+
+  private static int checksum(final @NotNull Path file, final @NotNull ByteBuffer buffer) throws IOException {
+    final var crc = new CRC32C();
+
+    try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      buffer.clear();
+
+      while (channel.read(buffer) >= 0) {
+        buffer.flip();
+        crc.update(buffer);
+        buffer.clear();
+      }
+    }
+
+    return (int) crc.getValue();
+  }
+
+  private static void writeManifest(final @NotNull Path file,
+                                    final @NotNull Map<String, ManifestEntry> manifest) throws IOException {
+    try (final var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+      out.writeInt(MANIFEST_MAGIC);
+      out.writeInt(manifest.size());
+
+      for (final var entry : manifest.entrySet()) {
+        out.writeUTF(entry.getKey());
+        out.writeLong(entry.getValue().size());
+        out.writeLong(entry.getValue().modified());
+        out.writeInt(entry.getValue().checksum());
+      }
+    }
+  }
+
+  private static @NotNull Map<String, ManifestEntry> readManifest(final @NotNull Path file) throws IOException {
+    try (final var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      if (in.readInt() != MANIFEST_MAGIC) {
+        throw new IOException("Unknown snapshot manifest format: " + file);
+      }
+
+      final var count = in.readInt();
+      final var manifest = new HashMap<String, ManifestEntry>(Math.max(16, count * 2));
+
+      for (int index = 0; index < count; index++) {
+        manifest.put(in.readUTF(), new ManifestEntry(in.readLong(), in.readLong(), in.readInt()));
+      }
+
+      return manifest;
+    }
+  }
+
+  private void publish(final @NotNull Path staging, final @NotNull Path target) throws IOException {
+    final var previous = target.resolveSibling(target.getFileName() + ".old-" + System.nanoTime());
+    final var replacing = Files.exists(target);
+
+    if (replacing) {
+      Files.move(target, previous, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    Files.move(staging, target, StandardCopyOption.ATOMIC_MOVE);
+
+    if (replacing) {
+      purge(previous);
+    }
+  }
+
+  private @NotNull Path snapshotOf(final @NotNull String name, final @NotNull String snapshot) {
+    return inside(inside(snapshots, name), snapshot);
+  }
+
+  private static @NotNull Path inside(final @NotNull Path root, final @NotNull String name) {
+    final var path = root.resolve(Objects.requireNonNull(name, "name"));
+    final var base = root.toAbsolutePath().normalize();
+    final var normalized = path.toAbsolutePath().normalize();
+
+    if (!normalized.startsWith(base) || normalized.equals(base)) {
+      throw new IllegalArgumentException("Name escapes " + root + ": " + name);
+    }
+
+    return path;
+  }
+
+  private static @NotNull List<Path> regionFiles(final @NotNull List<Path> files) {
+    final var result = new ArrayList<Path>();
+
+    for (final var file : files) {
+      final var parent = file.getParent();
+
+      if (file.getFileName().toString().endsWith(".mca") && parent != null
+          && REGION_FOLDERS.contains(parent.getFileName().toString())) {
+        result.add(file);
+      }
+    }
+
+    return result;
+  }
+
+  private static @NotNull String relative(final @NotNull Path root, final @NotNull Path file) {
+    return root.relativize(file).toString().replace('\\', '/');
+  }
+
+  private static boolean deleteAll(final @NotNull List<Path> paths) {
+    var ok = true;
+
+    for (final var path : paths) {
+      try {
+        Files.deleteIfExists(path);
+      } catch (final IOException exception) {
+        ok = false;
+      }
+    }
+
+    return ok;
+  }
+
+  private record ManifestEntry(long size, long modified, int checksum) {}
+
+  private record Tree(@NotNull List<Path> files, @NotNull List<Path> directories) {}
+}
@@ -0,0 +1,366 @@
+package go.xentany.goworlds.world.adapter.storage;
+
+import go.xentany.goworlds.world.domain.WorldEnvironment;
+import go.xentany.goworlds.world.domain.WorldLoadPriority;
+import go.xentany.goworlds.world.domain.WorldRecord;
+import go.xentany.goworlds.world.domain.WorldRecordDiff;
+import go.xentany.goworlds.world.port.LoadedWorlds;
+import go.xentany.goworlds.world.port.WorldsRepository;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+import org.slf4j.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+public final class JournalWorldsRepository implements WorldsRepository {
+
+  private static final int MAGIC = 0x47574A31;
+  private static final int HEADER_SIZE = Integer.BYTES;
+  private static final int MAX_ENTRY_SIZE = 1 << 20;
+  private static final byte OP_UPSERT = 1;
+  private static final byte OP_REMOVE = 2;
+
+  private final WorldRecordIndex index;
+  private final Path snapshotFile;
+  private final Path journalFile;
+  private final Logger logger;
+  private final int compactionThreshold;
+
+  private FileChannel journal;
+  private int journalEntries;
+
+  public JournalWorldsRepository(final @NotNull Path snapshotFile,
+                                 final @NotNull Path journalFile,
+                                 final @NotNull Logger logger,
+                                 final @NotNull LoadedWorlds loadedWorlds,
+                                 final int compactionThreshold) {
+    this.index = new WorldRecordIndex(loadedWorlds);
+    this.snapshotFile = Objects.requireNonNull(snapshotFile, "snapshotFile");
+    this.journalFile = Objects.requireNonNull(journalFile, "journalFile");
+    this.logger = Objects.requireNonNull(logger, "logger");
+    this.compactionThreshold = Math.max(16, compactionThreshold);
+  }
+
+  @Override
+  public synchronized void load() {
+    close();
+    journalEntries = 0;
+
+    try {
+      final var parent = journalFile.getParent();
+
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+
+      final var state = new LinkedHashMap<String, WorldRecord>();
+
+      replay(snapshotFile, state, false);
+
+      final var valid = replay(journalFile, state, true);
+
+      index.replace(state.values());
+
+      journal = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+
+      if (valid < HEADER_SIZE) {
+        journal.truncate(0L);
+        journal.write(ByteBuffer.allocate(HEADER_SIZE).putInt(0, MAGIC));
+      } else if (valid < journal.size()) {
+        logger.warn("Discarding torn tail of {} ({} bytes)", journalFile, journal.size() - valid);
+        journal.truncate(valid);
+      }
+
+      journal.position(journal.size());
+    } catch (final IOException exception) {
+      throw new UncheckedIOException("Failed to open worlds journal " + journalFile, exception);
+    }
+  }
+
+  @Override
+  public synchronized void save() {
+    if (journal == null) {
+      return;
+    }
+
+    try {
+      journal.force(false);
+    } catch (final IOException exception) {
+      logger.error("Failed to sync worlds journal: {}", journalFile, exception);
+    }
+
+    if (journalEntries >= Math.max(compactionThreshold, index.size())) {
+      compact();
+    }
+  }
+
+  @Override
+  public synchronized void flush() {
+    if (journal != null && journalEntries > 0) {
+      compact();
+    }
+  }
+
+  @Override
+  public @NotNull @Unmodifiable Collection<WorldRecord> worlds(final boolean requireLoaded,
+                                                               final boolean requireUnloaded) {
+    return index.worlds(requireLoaded, requireUnloaded);
+  }
+
+  @Override
+  public @NotNull List<String> complete(final @NotNull String prefix,
+                                        final boolean requireLoaded,
+                                        final boolean requireUnloaded,
+                                        final int limit) {
+    return index.complete(prefix, requireLoaded, requireUnloaded, limit);
+  }
+
+  @Override
+  public @NotNull Optional<WorldRecord> optionalWorld(final @NotNull String name) {
+    return index.optionalWorld(name);
+  }
+
+  @Override
+  public synchronized void upsert(final @NotNull WorldRecord record) {
+    index.upsert(record);
+    append(OP_UPSERT, record.name(), record);
+  }
+
+  @Override
+  public synchronized boolean remove(final @NotNull String name) {
+    if (!index.remove(name)) {
+      return false;
+    }
+
+    append(OP_REMOVE, name, null);
+
+    return true;
+  }
+
+  @Override
+  public synchronized @NotNull WorldRecordDiff reconcile(final @NotNull Collection<WorldRecord> records) {
+    final var diff = index.reconcile(records);
+
+    for (final var record : diff.removed()) {
+      append(OP_REMOVE, record.name(), null);
+    }
+
+    for (final var record : diff.added()) {
+      append(OP_UPSERT, record.name(), record);
+    }
+
+    for (final var record : diff.changed()) {
+      append(OP_UPSERT, record.name(), record);
+    }
+
+    return diff;
+  }
+
+  @Override
+  public boolean isManaged(final @NotNull String name) {
+    return index.isManaged(name);
+  }
+
+  private void append(final byte op, final @NotNull String name, final @Nullable WorldRecord record) {
+    if (journal == null) {
+      throw new IllegalStateException("Worlds journal is not loaded");
+    }
+
+    try {
+      journal.write(ByteBuffer.wrap(frame(op, name, record)));
+      journalEntries++;
+    } catch (final IOException exception) {
+      logger.error("Failed to append to worlds journal: {}", journalFile, exception);
+    }
+  }
+
+  private void compact() {
+    try {
+      final var parent = snapshotFile.getParent();
+      final var tmp = parent != null
+          ? Files.createTempFile(parent, "journal", ".tmp")
+          : Files.createTempFile("journal", ".tmp");
+
+      try (final var out = new BufferedOutputStream(Files.newOutputStream(tmp, StandardOpenOption.TRUNCATE_EXISTING))) {
+        final var header = new DataOutputStream(out);
+
+        header.writeInt(MAGIC);
+
+        for (final var record : index.values()) {
+          out.write(frame(OP_UPSERT, record.name(), record));
+        }
+      }
+
+      try (final var channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+        channel.force(true);
+      }
+
+      try {
+        Files.move(tmp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (final AtomicMoveNotSupportedException exception) {
+        Files.move(tmp, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+      }
+
+      journal.truncate(HEADER_SIZE);
+      journal.position(HEADER_SIZE);
+      journal.force(false);
+      journalEntries = 0;
+    } catch (final IOException exception) {
+      logger.error("Failed to compact worlds journal: {}", journalFile, exception);
+    }
+  }
+
+  private long replay(final @NotNull Path file,
+                      final @NotNull Map<String, WorldRecord> state,
+                      final boolean countEntries) throws IOException {
+    if (!Files.exists(file)) {
+      return 0L;
+    }
+
+    try (final var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      try {
+        if (in.readInt() != MAGIC) {
+          logger.warn("Ignoring {}: unknown format", file);
+
+          return 0L;
+        }
+      } catch (final EOFException exception) {
+        return 0L;
+      }
+
+      long valid = HEADER_SIZE;
+      final var crc = new CRC32();
+
+      while (true) {
+        final int length;
+        final byte[] payload;
+        final int checksum;
+
+        try {
+          length = in.readInt();
+
+          if (length <= 0 || length > MAX_ENTRY_SIZE) {
+            logger.warn("Corrupted entry in {} at offset {}", file, valid);
+
+            return valid;
+          }
+
+          payload = in.readNBytes(length);
+
+          if (payload.length < length) {
+            logger.warn("Torn entry in {} at offset {}", file, valid);
+
+            return valid;
+          }
+
+          checksum = in.readInt();
+        } catch (final EOFException exception) {
+          return valid;
+        }
+
+        crc.reset();
+        crc.update(payload);
+
+        if ((int) crc.getValue() != checksum) {
+          logger.warn("Checksum mismatch in {} at offset {}", file, valid);
+
+          return valid;
+        }
+
+        apply(payload, state);
+        valid += Integer.BYTES + length + Integer.BYTES;
+
+        if (countEntries) {
+          journalEntries++;
+        }
+      }
+    }
+  }
+
+  private static void apply(final byte @NotNull [] payload,
+                            final @NotNull Map<String, WorldRecord> state) throws IOException {
+    final var in = new DataInputStream(new ByteArrayInputStream(payload));
+    final var op = in.readByte();
+    final var name = in.readUTF();
+
+    if (op == OP_REMOVE) {
+      state.remove(WorldRecordIndex.key(name));
+
+      return;
+    }
+
+    final var environment = WorldEnvironment.fromName(in.readUTF());
+    final var generator = in.readUTF();
+    final var priority = WorldLoadPriority.fromName(in.readUTF());
+    final var hibernates = in.available() <= 0 || in.readBoolean();
+
+    state.put(WorldRecordIndex.key(name), WorldRecord.of(name, environment, generator, priority, hibernates));
+  }
+
+  private static byte @NotNull [] frame(final byte op,
+                                        final @NotNull String name,
+                                        final @Nullable WorldRecord record) {
+    try {
+      final var payloadBytes = new ByteArrayOutputStream(64);
+      final var payload = new DataOutputStream(payloadBytes);
+
+      payload.writeByte(op);
+      payload.writeUTF(name);
+
+      if (record != null) {
+        payload.writeUTF(record.environment().name());
+        payload.writeUTF(record.generator());
+        payload.writeUTF(record.priority().name());
+        payload.writeBoolean(record.hibernates());
+      }
+
+      final var bytes = payloadBytes.toByteArray();
+      final var crc = new CRC32();
+
+      crc.update(bytes);
+
+      return ByteBuffer.allocate(Integer.BYTES + bytes.length + Integer.BYTES)
+          .putInt(bytes.length)
+          .put(bytes)
+          .putInt((int) crc.getValue())
+          .array();
+    } catch (final IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    if (journal != null) {
+      try {
+        journal.close();
+      } catch (final IOException ignored) {
+      }
+
+      journal = null;
+    }
+  }
+}
@@ -0,0 +1,247 @@
+package go.xentany.goworlds.world.adapter.storage;
+
+import go.xentany.goworlds.world.domain.WorldEnvironment;
+import go.xentany.goworlds.world.domain.WorldLoadPriority;
+import go.xentany.goworlds.world.domain.WorldRecord;
+import go.xentany.goworlds.world.domain.WorldRecordDiff;
+import go.xentany.goworlds.world.port.LoadedWorlds;
+import go.xentany.goworlds.world.port.WorldsRepository;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+import org.slf4j.Logger;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+public final class SqliteWorldsRepository implements WorldsRepository {
+
+  private static final String[] SCHEMA = {
+      "CREATE TABLE IF NOT EXISTS worlds ("
+          + "name_key TEXT PRIMARY KEY NOT NULL, "
+          + "name TEXT NOT NULL, "
+          + "environment TEXT NOT NULL, "
+          + "generator TEXT NOT NULL, "
+          + "priority TEXT NOT NULL, "
+          + "hibernate INTEGER NOT NULL DEFAULT 1)",
+      "DROP INDEX IF EXISTS worlds_environment",
+      "DROP INDEX IF EXISTS worlds_generator"
+  };
+  private static final String SELECT = "SELECT name, environment, generator, priority, hibernate FROM worlds";
+  private static final String UPSERT = "INSERT INTO worlds (name_key, name, environment, generator, priority, hibernate) "
+      + "VALUES (?, ?, ?, ?, ?, ?) ON CONFLICT (name_key) DO UPDATE SET "
+      + "name = excluded.name, environment = excluded.environment, "
+      + "generator = excluded.generator, priority = excluded.priority, hibernate = excluded.hibernate";
+  private static final String DELETE = "DELETE FROM worlds WHERE name_key = ?";
+
+  private final WorldRecordIndex index;
+  private final Map<String, WorldRecord> pending = new LinkedHashMap<>();
+  private final Path databaseFile;
+  private final Logger logger;
+
+  private Connection connection;
+
+  public SqliteWorldsRepository(final @NotNull Path databaseFile,
+                                final @NotNull Logger logger,
+                                final @NotNull LoadedWorlds loadedWorlds) {
+    this.index = new WorldRecordIndex(loadedWorlds);
+    this.databaseFile = Objects.requireNonNull(databaseFile, "databaseFile");
+    this.logger = Objects.requireNonNull(logger, "logger");
+  }
+
+  @Override
+  public synchronized void load() {
+    pending.clear();
+
+    try {
+      final var parent = databaseFile.getParent();
+
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+
+      if (connection == null || connection.isClosed()) {
+        Class.forName("org.sqlite.JDBC");
+        connection = DriverManager.getConnection("jdbc:sqlite:" + databaseFile.toAbsolutePath());
+
+        try (final var statement = connection.createStatement()) {
+          statement.execute("PRAGMA journal_mode = WAL");
+          statement.execute("PRAGMA synchronous = NORMAL");
+
+          for (final var sql : SCHEMA) {
+            statement.execute(sql);
+          }
+
+          if (!hasColumn("hibernate")) {
+            statement.execute("ALTER TABLE worlds ADD COLUMN hibernate INTEGER NOT NULL DEFAULT 1");
+          }
+        }
+      }
+
+      try (final var statement = connection.createStatement();
+           final var rows = statement.executeQuery(SELECT + " ORDER BY rowid")) {
+        final var records = new ArrayList<WorldRecord>();
+
+        while (rows.next()) {
+          records.add(record(rows));
+        }
+
+        index.replace(records);
+      }
+    } catch (final Exception exception) {
+      throw new IllegalStateException("Failed to open worlds database " + databaseFile, exception);
+    }
+  }
+
+  @Override
+  public synchronized void save() {
+    if (pending.isEmpty() || connection == null) {
+      return;
+    }
+
+    try {
+      connection.setAutoCommit(false);
+
+      try (final var upsert = connection.prepareStatement(UPSERT);
+           final var delete = connection.prepareStatement(DELETE)) {
+        for (final var entry : pending.entrySet()) {
+          final var record = entry.getValue();
+
+          if (record == null) {
+            delete.setString(1, entry.getKey());
+            delete.addBatch();
+          } else {
+            upsert.setString(1, entry.getKey());
+            upsert.setString(2, record.name());
+            upsert.setString(3, record.environment().name());
+            upsert.setString(4, record.generator());
+            upsert.setString(5, record.priority().name());
+            upsert.setInt(6, record.hibernates() ? 1 : 0);
+            upsert.addBatch();
+          }
+        }
+
+        delete.executeBatch();
+        upsert.executeBatch();
+        connection.commit();
+        pending.clear();
+      } catch (final SQLException exception) {
+        connection.rollback();
+
+        throw exception;
+      } finally {
+        connection.setAutoCommit(true);
+      }
+    } catch (final SQLException exception) {
+      throw new IllegalStateException("Failed to save worlds database " + databaseFile, exception);
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    if (connection == null) {
+      return;
+    }
+
+    try {
+      connection.close();
+    } catch (final SQLException exception) {
+      logger.warn("Failed to close worlds database: {}", databaseFile, exception);
+    }
+
+    connection = null;
+  }
+
+  @Override
+  public @NotNull @Unmodifiable Collection<WorldRecord> worlds(final boolean requireLoaded,
+                                                               final boolean requireUnloaded) {
+    return index.worlds(requireLoaded, requireUnloaded);
+  }
+
+  @Override
+  public @NotNull List<String> complete(final @NotNull String prefix,
+                                        final boolean requireLoaded,
+                                        final boolean requireUnloaded,
+                                        final int limit) {
+    return index.complete(prefix, requireLoaded, requireUnloaded, limit);
+  }
+
+  @Override
+  public @NotNull Optional<WorldRecord> optionalWorld(final @NotNull String name) {
+    return index.optionalWorld(name);
+  }
+
+  @Override
+  public synchronized void upsert(final @NotNull WorldRecord record) {
+    index.upsert(record);
+    pending.put(WorldRecordIndex.key(record.name()), record);
+  }
+
+  @Override
+  public synchronized boolean remove(final @NotNull String name) {
+    if (!index.remove(name)) {
+      return false;
+    }
+
+    pending.put(WorldRecordIndex.key(name), null);
+
+    return true;
+  }
+
+  @Override
+  public synchronized @NotNull WorldRecordDiff reconcile(final @NotNull Collection<WorldRecord> records) {
+    final var diff = index.reconcile(records);
+
+    for (final var record : diff.removed()) {
+      pending.put(WorldRecordIndex.key(record.name()), null);
+    }
+
+    for (final var record : diff.added()) {
+      pending.put(WorldRecordIndex.key(record.name()), record);
+    }
+
+    for (final var record : diff.changed()) {
+      pending.put(WorldRecordIndex.key(record.name()), record);
+    }
+
+    return diff;
+  }
+
+  @Override
+  public boolean isManaged(final @NotNull String name) {
+    return index.isManaged(name);
+  }
+
+  private static @NotNull WorldRecord record(final @NotNull ResultSet rows) throws SQLException {
+    return WorldRecord.of(
+        rows.getString(1),
+        WorldEnvironment.fromName(rows.getString(2)),
+        rows.getString(3),
+        WorldLoadPriority.fromName(rows.getString(4)),
+        rows.getInt(5) != 0
+    );
+  }
+
+  private boolean hasColumn(final @NotNull String column) throws SQLException {
+    try (final var statement = connection.createStatement();
+         final var rows = statement.executeQuery("PRAGMA table_info(worlds)")) {
+      while (rows.next()) {
+        if (column.equalsIgnoreCase(rows.getString("name"))) {
+          return true;
+        }
+      }
+    }
+
+    return false;
+  }
+}
@@ -0,0 +1,239 @@
+package go.xentany.goworlds.world.adapter.storage;
+
+import go.xentany.goworlds.world.domain.WorldRecord;
+import go.xentany.goworlds.world.domain.WorldRecordDiff;
+import go.xentany.goworlds.world.port.LoadedWorlds;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory view of the managed worlds shared by the storage backends.
+ *
+ * <p>Point lookups go through a concurrent map that every change updates in place. The ordered
+ * list returned by {@link #values()} is rebuilt lazily on the first read after a change, so a batch
+ * of upserts or removals costs one copy in total instead of one copy per record.
+ */
+final class WorldRecordIndex {
+
+  private final LoadedWorlds loadedWorlds;
+  private final Object writeLock = new Object();
+  private final Map<String, WorldRecord> ordered = new LinkedHashMap<>();
+  private final ConcurrentNavigableMap<String, WorldRecord> sorted =
+      new ConcurrentSkipListMap<>(String.CASE_INSENSITIVE_ORDER);
+
+  private volatile Map<String, WorldRecord> byKey = new ConcurrentHashMap<>();
+  private volatile List<WorldRecord> values = List.of();
+
+  WorldRecordIndex(final @NotNull LoadedWorlds loadedWorlds) {
+    this.loadedWorlds = Objects.requireNonNull(loadedWorlds, "loadedWorlds");
+  }
+
+  void clear() {
+    synchronized (writeLock) {
+      ordered.clear();
+      byKey = new ConcurrentHashMap<>();
+      values = List.of();
+      sorted.clear();
+    }
+  }
+
+  void replace(final @NotNull Collection<WorldRecord> records) {
+    final var next = new ConcurrentHashMap<String, WorldRecord>(Math.max(16, records.size() * 2));
+
+    synchronized (writeLock) {
+      ordered.clear();
+
+      for (final var record : records) {
+        final var key = key(record.name());
+
+        ordered.put(key, record);
+        next.put(key, record);
+      }
+
+      byKey = next;
+      values = null;
+      sorted.clear();
+
+      for (final var record : ordered.values()) {
+        sorted.put(record.name(), record);
+      }
+    }
+  }
+
+  int size() {
+    return byKey.size();
+  }
+
+  @NotNull @Unmodifiable List<WorldRecord> values() {
+    final var current = values;
+
+    if (current != null) {
+      return current;
+    }
+
+    synchronized (writeLock) {
+      if (values == null) {
+        values = List.copyOf(ordered.values());
+      }
+
+      return values;
+    }
+  }
+
+  @NotNull @Unmodifiable Collection<WorldRecord> worlds(final boolean requireLoaded, final boolean requireUnloaded) {
+    if (requireLoaded == requireUnloaded) {
+      return values();
+    }
+
+    if (requireLoaded) {
+      final var current = byKey;
+      final var loaded = new ArrayList<WorldRecord>();
+
+      for (final var name : loadedWorlds.names()) {
+        final var record = current.get(key(name));
+
+        if (record != null) {
+          loaded.add(record);
+        }
+      }
+
+      return Collections.unmodifiableList(loaded);
+    }
+
+    final var current = values();
+    final var unloaded = new ArrayList<WorldRecord>(current.size());
+
+    for (final var record : current) {
+      if (!loadedWorlds.isLoaded(record.name())) {
+        unloaded.add(record);
+      }
+    }
+
+    return Collections.unmodifiableList(unloaded);
+  }
+
+  @NotNull List<String> complete(final @NotNull String prefix,
+                                 final boolean requireLoaded,
+                                 final boolean requireUnloaded,
+                                 final int limit) {
+    Objects.requireNonNull(prefix, "prefix");
+
+    final var result = new ArrayList<String>(Math.min(Math.max(0, limit), 16));
+
+    if (limit <= 0) {
+      return result;
+    }
+
+    if (requireLoaded && !requireUnloaded) {
+      for (final var name : loadedWorlds.names().tailSet(prefix, true)) {
+        if (!name.regionMatches(true, 0, prefix, 0, prefix.length())) {
+          break;
+        }
+
+        final var record = sorted.get(name);
+
+        if (record != null) {
+          result.add(record.name());
+
+          if (result.size() >= limit) {
+            break;
+          }
+        }
+      }
+
+      return result;
+    }
+
+    for (final var record : sorted.tailMap(prefix, true).values()) {
+      final var name = record.name();
+
+      if (!name.regionMatches(true, 0, prefix, 0, prefix.length())) {
+        break;
+      }
+
+      if (requireLoaded == requireUnloaded || !loadedWorlds.isLoaded(name)) {
+        result.add(name);
+
+        if (result.size() >= limit) {
+          break;
+        }
+      }
+    }
+
+    return result;
+  }
+
+  @NotNull Optional<WorldRecord> optionalWorld(final @NotNull String name) {
+    return Optional.ofNullable(byKey.get(key(name)));
+  }
+
+  void upsert(final @NotNull WorldRecord record) {
+    final var key = key(record.name());
+
+    synchronized (writeLock) {
+      final var previous = ordered.put(key, record);
+
+      byKey.put(key, record);
+      values = null;
+
+      if (previous != null && !previous.name().equals(record.name())) {
+        sorted.remove(previous.name());
+      }
+
+      sorted.put(record.name(), record);
+    }
+  }
+
+  boolean remove(final @NotNull String name) {
+    final var key = key(name);
+
+    synchronized (writeLock) {
+      final var previous = ordered.remove(key);
+
+      if (previous == null) {
+        return false;
+      }
+
+      byKey.remove(key);
+      values = null;
+      sorted.remove(previous.name());
+
+      return true;
+    }
+  }
+
+  @NotNull WorldRecordDiff reconcile(final @NotNull Collection<WorldRecord> records) {
+    Objects.requireNonNull(records, "records");
+
+    synchronized (writeLock) {
+      final var diff = WorldRecordDiff.between(values(), records);
+
+      if (!diff.isEmpty()) {
+        replace(records);
+      }
+
+      return diff;
+    }
+  }
+
+  boolean isManaged(final @NotNull String name) {
+    return byKey.containsKey(key(name));
+  }
+
+  static @NotNull String key(final @NotNull String name) {
+    return Objects.requireNonNull(name, "name").toLowerCase(Locale.ROOT);
+  }
+}
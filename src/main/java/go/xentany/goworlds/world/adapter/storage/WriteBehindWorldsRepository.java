@@ -0,0 +1,172 @@
+package go.xentany.goworlds.world.adapter.storage;
+
+import go.xentany.goworlds.world.domain.WorldRecord;
+import go.xentany.goworlds.world.domain.WorldRecordDiff;
+import go.xentany.goworlds.world.port.WorldsRepository;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+
+import java.nio.file.AccessDeniedException;
+import java.nio.file.ReadOnlyFileSystemException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class WriteBehindWorldsRepository implements WorldsRepository {
+
+  private static final int MAX_RETRIES = 8;
+  private static final long MIN_BACKOFF_MILLIS = TimeUnit.SECONDS.toMillis(1L);
+  private static final long MAX_BACKOFF_MILLIS = TimeUnit.MINUTES.toMillis(5L);
+
+  private final WorldsRepository delegate;
+  private final Logger logger;
+  private final Executor workers;
+  private final long debounceMillis;
+  private final AtomicBoolean dirty = new AtomicBoolean();
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+  private final AtomicInteger failures = new AtomicInteger();
+
+  public WriteBehindWorldsRepository(final @NotNull WorldsRepository delegate,
+                                     final @NotNull Logger logger,
+                                     final @NotNull Executor workers,
+                                     final long debounceMillis) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+    this.logger = Objects.requireNonNull(logger, "logger");
+    this.workers = Objects.requireNonNull(workers, "workers");
+    this.debounceMillis = Math.max(0L, debounceMillis);
+  }
+
+  @Override
+  public void load() {
+    delegate.load();
+  }
+
+  @Override
+  public void save() {
+    dirty.set(true);
+    schedule(debounceMillis);
+  }
+
+  @Override
+  public void flush() {
+    dirty.set(false);
+
+    try {
+      delegate.flush();
+      failures.set(0);
+    } catch (final RuntimeException exception) {
+      dirty.set(true);
+
+      throw exception;
+    }
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+  }
+
+  @Override
+  public @NotNull Collection<WorldRecord> worlds(final boolean requireLoaded, final boolean requireUnloaded) {
+    return delegate.worlds(requireLoaded, requireUnloaded);
+  }
+
+  @Override
+  public @NotNull List<String> complete(final @NotNull String prefix,
+                                        final boolean requireLoaded,
+                                        final boolean requireUnloaded,
+                                        final int limit) {
+    return delegate.complete(prefix, requireLoaded, requireUnloaded, limit);
+  }
+
+  @Override
+  public @NotNull Optional<WorldRecord> optionalWorld(final @NotNull String name) {
+    return delegate.optionalWorld(name);
+  }
+
+  @Override
+  public void upsert(final @NotNull WorldRecord record) {
+    delegate.upsert(record);
+  }
+
+  @Override
+  public boolean remove(final @NotNull String name) {
+    return delegate.remove(name);
+  }
+
+  @Override
+  public @NotNull WorldRecordDiff reconcile(final @NotNull Collection<WorldRecord> records) {
+    return delegate.reconcile(records);
+  }
+
+  @Override
+  public boolean isManaged(final @NotNull String name) {
+    return delegate.isManaged(name);
+  }
+
+  private void schedule(final long delayMillis) {
+    if (!scheduled.compareAndSet(false, true)) {
+      return;
+    }
+
+    try {
+      CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS, workers).execute(this::flushBehind);
+    } catch (final RuntimeException exception) {
+      scheduled.set(false);
+
+      logger.warn("Failed to schedule background save, saving synchronously", exception);
+      flush();
+    }
+  }
+
+  private void flushBehind() {
+    scheduled.set(false);
+
+    try {
+      if (dirty.getAndSet(false)) {
+        delegate.save();
+      }
+
+      failures.set(0);
+    } catch (final Throwable throwable) {
+      dirty.set(true);
+
+      final var attempt = failures.incrementAndGet();
+
+      if (attempt > MAX_RETRIES || permanent(throwable)) {
+        logger.error("Background save of worlds failed ({} attempts), giving up until the next change", attempt,
+            throwable);
+
+        return;
+      }
+
+      final var backoff = Math.min(MAX_BACKOFF_MILLIS,
+          Math.max(MIN_BACKOFF_MILLIS, debounceMillis) << Math.min(attempt - 1, 20));
+
+      if (attempt == 1) {
+        logger.warn("Background save of worlds failed, retrying in {} ms", backoff, throwable);
+      } else {
+        logger.warn("Background save of worlds failed again ({}), retrying in {} ms", throwable.toString(), backoff);
+      }
+
+      schedule(backoff);
+    }
+  }
+
+  private static boolean permanent(final @NotNull Throwable throwable) {
+    for (var cause = throwable; cause != null; cause = cause.getCause()) {
+      if (cause instanceof Error || cause instanceof AccessDeniedException
+          || cause instanceof ReadOnlyFileSystemException) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+}
@@ -0,0 +1,57 @@
+package go.xentany.goworlds.world.adapter.storage;
+
+import go.xentany.goworlds.config.YamlConfigService;
+import go.xentany.goworlds.world.port.WorldsRepository;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+
+public final class YamlSchemaMigrator {
+
+  private static final String MIGRATED_SUFFIX = ".migrated";
+
+  private YamlSchemaMigrator() {}
+
+  public static int migrate(final @NotNull Path yamlFile,
+                            final @NotNull YamlConfigService yamlService,
+                            final @NotNull WorldsRepository target) {
+    Objects.requireNonNull(yamlFile, "yamlFile");
+    Objects.requireNonNull(yamlService, "yamlService");
+    Objects.requireNonNull(target, "target");
+
+    if (!Files.exists(yamlFile) || !target.worlds(true, true).isEmpty()) {
+      return 0;
+    }
+
+    final var schema = yamlService.load(yamlFile, YamlWorldsRepository.Schema.class, YamlWorldsRepository.Schema::new);
+    var migrated = 0;
+
+    for (final var entry : schema.entries) {
+      final var record = YamlWorldsRepository.record(entry);
+
+      if (record != null) {
+        target.upsert(record);
+        migrated++;
+      }
+    }
+
+    if (migrated > 0) {
+      target.save();
+      target.flush();
+
+      try {
+        Files.move(yamlFile, yamlFile.resolveSibling(yamlFile.getFileName() + MIGRATED_SUFFIX),
+            StandardCopyOption.REPLACE_EXISTING);
+      } catch (final IOException exception) {
+        throw new UncheckedIOException("Failed to retire migrated " + yamlFile, exception);
+      }
+    }
+
+    return migrated;
+  }
+}
@@ -2,104 +2,322 @@ package go.xentany.goworlds.world.adapter.storage;
 
 import go.xentany.goworlds.config.YamlConfigService;
 import go.xentany.goworlds.world.domain.WorldEnvironment;
+import go.xentany.goworlds.world.domain.WorldLoadPriority;
 import go.xentany.goworlds.world.domain.WorldRecord;
+import go.xentany.goworlds.world.domain.WorldRecordDiff;
+import go.xentany.goworlds.world.port.LoadedWorlds;
 import go.xentany.goworlds.world.port.WorldsRepository;
-import org.bukkit.Bukkit;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.UnmodifiableView;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+import org.slf4j.Logger;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.*;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 public final class YamlWorldsRepository implements WorldsRepository {
 
-  private final Map<String, WorldRecord> byName = new LinkedHashMap<>();
+  private static final String BACKUP_SUFFIX = ".bak";
+
+  private final WorldRecordIndex index;
   private final Path yamlFile;
   private final YamlConfigService yamlService;
+  private final Logger logger;
+  private final boolean mergeExternal;
+  private final Map<String, WorldRecord> pending = new HashMap<>();
+
+  private Stamp written = Stamp.MISSING;
+  private WorldRecordDiff unreported = WorldRecordDiff.EMPTY;
 
   public YamlWorldsRepository(final @NotNull Path yamlFile,
-                              final @NotNull YamlConfigService yamlService) {
+                              final @NotNull YamlConfigService yamlService,
+                              final @NotNull LoadedWorlds loadedWorlds,
+                              final @NotNull Logger logger,
+                              final boolean mergeExternal) {
+    this.index = new WorldRecordIndex(loadedWorlds);
     this.yamlFile = Objects.requireNonNull(yamlFile, "yamlFile");
     this.yamlService = Objects.requireNonNull(yamlService, "yamlService");
+    this.logger = Objects.requireNonNull(logger, "logger");
+    this.mergeExternal = mergeExternal;
   }
 
   @Override
-  public void load() {
-    byName.clear();
-
+  public synchronized void load() {
     final var schema = yamlService.load(yamlFile, Schema.class, Schema::new);
-    final var entries = schema.entries;
+    final var records = new ArrayList<WorldRecord>(schema.entries.size());
+
+    for (final var entry : schema.entries) {
+      final var record = record(entry);
 
-    for (final var entry : entries) {
-      if (entry == null) {
-        continue;
+      if (record != null) {
+        records.add(record);
       }
+    }
 
-      final var name = entry.name;
+    index.replace(records);
+    pending.clear();
+    written = Stamp.of(yamlFile);
+  }
 
-      if (name == null || name.isBlank()) {
-        continue;
-      }
+  public @NotNull List<WorldRecord> read() {
+    final Schema schema;
+
+    try {
+      schema = yamlService.read(yamlFile, Schema.class);
+    } catch (final IOException exception) {
+      throw new UncheckedIOException("Failed to read " + yamlFile, exception);
+    }
+
+    if (schema == null) {
+      return List.of();
+    }
+
+    final var records = new ArrayList<WorldRecord>(schema.entries.size());
+    final var names = new HashSet<String>();
+    final var invalid = new ArrayList<String>();
+
+    for (int index = 0; index < schema.entries.size(); index++) {
+      final var record = record(schema.entries.get(index));
 
-      final var environment = entry.environment;
-      final var generator = entry.generator;
-      final var record = WorldRecord.of(name, WorldEnvironment.fromName(environment), generator);
+      if (record == null) {
+        invalid.add("#" + (index + 1));
+      } else if (!names.add(WorldRecordIndex.key(record.name()))) {
+        invalid.add(record.name() + " (duplicate)");
+      } else {
+        records.add(record);
+      }
+    }
 
-      byName.put(key(name), record);
+    if (!invalid.isEmpty()) {
+      throw new IllegalStateException("Invalid entries in " + yamlFile.getFileName() + ": " + String.join(", ", invalid));
     }
+
+    return records;
   }
 
   @Override
-  public void save() {
+  public synchronized void save() {
+    if (mergeExternal && !Stamp.of(yamlFile).equals(written)) {
+      mergeBeforeWrite();
+    }
+
     final var schema = new Schema();
     final var entries = schema.entries;
 
-    for (final var record : byName.values()) {
+    for (final var record : index.values()) {
       final var entry = new Schema.Entry();
 
       entry.name = record.name();
       entry.environment = record.environment().name();
       entry.generator = record.generator();
+      entry.priority = record.priority().name();
+      entry.hibernate = record.hibernates();
       entries.add(entry);
     }
 
-    yamlService.save(yamlFile, schema);
+    try {
+      yamlService.write(yamlFile, schema);
+    } catch (final IOException exception) {
+      throw new UncheckedIOException("Failed to save " + yamlFile, exception);
+    }
+
+    pending.clear();
+    written = Stamp.of(yamlFile);
   }
 
-  @Override
-  public @NotNull @UnmodifiableView Collection<WorldRecord> worlds(final boolean requireLoaded,
-                                                                   final boolean requireUnloaded) {
-    if (requireLoaded == requireUnloaded) {
-      return Collections.unmodifiableCollection(byName.values());
+  /**
+   * Merges external edits of the file into the index, keeping changes that are not saved yet.
+   */
+  synchronized @NotNull WorldRecordDiff sync() {
+    final var current = Stamp.of(yamlFile);
+
+    if (current.equals(written)) {
+      return drain();
     }
 
-    return byName.values().stream()
-        .filter(record -> (Bukkit.getWorld(record.name()) != null) == requireLoaded)
-        .toList();
+    final var diff = merge(read());
+
+    written = current;
+
+    return concat(drain(), diff);
+  }
+
+  /**
+   * Re-reads the file unconditionally, keeping changes that are not saved yet.
+   */
+  public synchronized @NotNull WorldRecordDiff reload() {
+    final var current = Stamp.of(yamlFile);
+    final var diff = merge(read());
+
+    written = current;
+
+    return concat(drain(), diff);
+  }
+
+  private void mergeBeforeWrite() {
+    final List<WorldRecord> records;
+
+    try {
+      records = read();
+    } catch (final RuntimeException exception) {
+      final var backup = yamlFile.resolveSibling(yamlFile.getFileName() + BACKUP_SUFFIX);
+
+      logger.warn("Overwriting invalid external edit of {} ({}), previous content kept in {}",
+          yamlFile.getFileName(), exception.getMessage(), backup.getFileName());
+
+      try {
+        Files.copy(yamlFile, backup, StandardCopyOption.REPLACE_EXISTING);
+      } catch (final IOException copyException) {
+        logger.warn("Failed to back up {}", yamlFile, copyException);
+      }
+
+      return;
+    }
+
+    unreported = concat(unreported, merge(records));
+  }
+
+  private @NotNull WorldRecordDiff merge(final @NotNull List<WorldRecord> records) {
+    final var merged = new LinkedHashMap<String, WorldRecord>(Math.max(16, records.size() * 2));
+
+    for (final var record : records) {
+      merged.put(WorldRecordIndex.key(record.name()), record);
+    }
+
+    for (final var entry : pending.entrySet()) {
+      if (entry.getValue() == null) {
+        merged.remove(entry.getKey());
+      } else {
+        merged.put(entry.getKey(), entry.getValue());
+      }
+    }
+
+    return index.reconcile(merged.values());
+  }
+
+  private @NotNull WorldRecordDiff drain() {
+    final var diff = unreported;
+
+    unreported = WorldRecordDiff.EMPTY;
+
+    return diff;
+  }
+
+  private static @NotNull WorldRecordDiff concat(final @NotNull WorldRecordDiff first,
+                                                 final @NotNull WorldRecordDiff second) {
+    if (first.isEmpty()) {
+      return second;
+    }
+
+    if (second.isEmpty()) {
+      return first;
+    }
+
+    final var added = new ArrayList<>(first.added());
+    final var removed = new ArrayList<>(first.removed());
+    final var changed = new ArrayList<>(first.changed());
+
+    added.addAll(second.added());
+    removed.addAll(second.removed());
+    changed.addAll(second.changed());
+
+    return new WorldRecordDiff(added, removed, changed);
+  }
+
+  @NotNull Path file() {
+    return yamlFile;
+  }
+
+  @Override
+  public @NotNull @Unmodifiable Collection<WorldRecord> worlds(final boolean requireLoaded,
+                                                               final boolean requireUnloaded) {
+    return index.worlds(requireLoaded, requireUnloaded);
+  }
+
+  @Override
+  public @NotNull List<String> complete(final @NotNull String prefix,
+                                        final boolean requireLoaded,
+                                        final boolean requireUnloaded,
+                                        final int limit) {
+    return index.complete(prefix, requireLoaded, requireUnloaded, limit);
   }
 
   @Override
   public @NotNull Optional<WorldRecord> optionalWorld(final @NotNull String name) {
-    return Optional.ofNullable(byName.get(key(name)));
+    return index.optionalWorld(name);
   }
 
   @Override
-  public void upsert(final @NotNull WorldRecord record) {
-    byName.put(key(record.name()), record);
+  public synchronized void upsert(final @NotNull WorldRecord record) {
+    index.upsert(record);
+    pending.put(WorldRecordIndex.key(record.name()), record);
   }
 
   @Override
-  public boolean remove(final @NotNull String name) {
-    return byName.remove(key(name)) != null;
+  public synchronized boolean remove(final @NotNull String name) {
+    final var removed = index.remove(name);
+
+    if (removed) {
+      pending.put(WorldRecordIndex.key(name), null);
+    }
+
+    return removed;
+  }
+
+  @Override
+  public synchronized @NotNull WorldRecordDiff reconcile(final @NotNull Collection<WorldRecord> records) {
+    return index.reconcile(records);
   }
 
   @Override
   public boolean isManaged(final @NotNull String name) {
-    return byName.containsKey(key(name));
+    return index.isManaged(name);
   }
 
-  private @NotNull String key(final @NotNull String name) {
-    return Objects.requireNonNull(name, "name").toLowerCase(Locale.ROOT);
+  static @Nullable WorldRecord record(final @Nullable Schema.Entry entry) {
+    if (entry == null) {
+      return null;
+    }
+
+    final var name = entry.name;
+
+    if (name == null || name.isBlank()) {
+      return null;
+    }
+
+    final var environment = entry.environment;
+    final var generator = entry.generator;
+    final var priority = WorldLoadPriority.fromName(entry.priority);
+
+    return WorldRecord.of(name, WorldEnvironment.fromName(environment), generator, priority, entry.hibernate);
+  }
+
+  private record Stamp(long modified, long size) {
+
+    static final Stamp MISSING = new Stamp(-1L, -1L);
+
+    static @NotNull Stamp of(final @NotNull Path file) {
+      try {
+        final var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+
+        return new Stamp(attributes.lastModifiedTime().toMillis(), attributes.size());
+      } catch (final IOException exception) {
+        return MISSING;
+      }
+    }
   }
 
   public static final class Schema {
@@ -111,6 +329,8 @@ public final class YamlWorldsRepository implements WorldsRepository {
       public String name;
       public String environment;
       public String generator;
+      public String priority;
+      public boolean hibernate = true;
     }
   }
 }
\ No newline at end of file
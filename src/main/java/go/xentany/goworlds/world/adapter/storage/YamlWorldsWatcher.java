@@ -0,0 +1,113 @@
+package go.xentany.goworlds.world.adapter.storage;
+
+import go.xentany.goworlds.world.domain.WorldRecordDiff;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchService;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+public final class YamlWorldsWatcher implements AutoCloseable {
+
+  private final YamlWorldsRepository repository;
+  private final Logger logger;
+  private final Executor delayed;
+  private final Consumer<WorldRecordDiff> listener;
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+  private final WatchService watchService;
+  private final Thread thread;
+
+  public YamlWorldsWatcher(final @NotNull YamlWorldsRepository repository,
+                           final @NotNull Logger logger,
+                           final @NotNull Executor workers,
+                           final long debounceMillis,
+                           final @NotNull Consumer<WorldRecordDiff> listener) throws IOException {
+    this.repository = Objects.requireNonNull(repository, "repository");
+    this.logger = Objects.requireNonNull(logger, "logger");
+    this.delayed = CompletableFuture.delayedExecutor(Math.max(0L, debounceMillis), TimeUnit.MILLISECONDS,
+        Objects.requireNonNull(workers, "workers"));
+    this.listener = Objects.requireNonNull(listener, "listener");
+
+    final var directory = repository.file().toAbsolutePath().getParent();
+
+    this.watchService = directory.getFileSystem().newWatchService();
+
+    directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+    this.thread = new Thread(this::poll, "GoWorlds Watcher");
+    this.thread.setDaemon(true);
+  }
+
+  public void start() {
+    thread.start();
+  }
+
+  @Override
+  public void close() {
+    try {
+      watchService.close();
+    } catch (final IOException ignored) {
+    }
+  }
+
+  private void poll() {
+    final var fileName = repository.file().getFileName();
+
+    try {
+      while (true) {
+        final var key = watchService.take();
+        var relevant = false;
+
+        for (final var event : key.pollEvents()) {
+          if (event.kind() == StandardWatchEventKinds.OVERFLOW || fileName.equals(event.context())) {
+            relevant = true;
+          }
+        }
+
+        key.reset();
+
+        if (relevant) {
+          schedule();
+        }
+      }
+    } catch (final ClosedWatchServiceException | InterruptedException ignored) {
+    }
+  }
+
+  private void schedule() {
+    if (scheduled.compareAndSet(false, true)) {
+      try {
+        delayed.execute(this::sync);
+      } catch (final RejectedExecutionException exception) {
+        scheduled.set(false);
+      }
+    }
+  }
+
+  private void sync() {
+    scheduled.set(false);
+
+    try {
+      final var diff = repository.sync();
+
+      if (diff.isEmpty()) {
+        return;
+      }
+
+      logger.info("Synced {}: {} added, {} removed, {} changed", repository.file().getFileName(),
+          diff.added().size(), diff.removed().size(), diff.changed().size());
+      listener.accept(diff);
+    } catch (final RuntimeException exception) {
+      logger.warn("Ignoring edit of {}: {}", repository.file().getFileName(), exception.getMessage());
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package go.xentany.goworlds.world.domain;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+public record WorldDeletion(@NotNull CompletableFuture<Boolean> removed, @NotNull CompletableFuture<Boolean> purged) {
+
+  public WorldDeletion {
+    Objects.requireNonNull(removed, "removed");
+    Objects.requireNonNull(purged, "purged");
+  }
+
+  public static @NotNull WorldDeletion refused() {
+    return new WorldDeletion(CompletableFuture.completedFuture(false), CompletableFuture.completedFuture(false));
+  }
+}
@@ -7,7 +7,8 @@ import java.util.Locale;
 public enum WorldGenerator {
 
   NORMAL,
-  FLAT;
+  FLAT,
+  VOID;
 
   public static @Nullable WorldGenerator fromName(final @Nullable String input) {
     if (input == null) {
@@ -0,0 +1,29 @@
+package go.xentany.goworlds.world.domain;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+
+public enum WorldLoadPriority {
+
+  CRITICAL,
+  HIGH,
+  NORMAL,
+  LOW,
+  ON_DEMAND;
+
+  public boolean autoloads() {
+    return this != ON_DEMAND;
+  }
+
+  public static @NotNull WorldLoadPriority fromName(final @Nullable String input) {
+    return input == null ? NORMAL : switch (input.toUpperCase(Locale.ROOT)) {
+      case "CRITICAL" -> CRITICAL;
+      case "HIGH" -> HIGH;
+      case "LOW" -> LOW;
+      case "ON_DEMAND", "ONDEMAND", "MANUAL" -> ON_DEMAND;
+      default -> NORMAL;
+    };
+  }
+}
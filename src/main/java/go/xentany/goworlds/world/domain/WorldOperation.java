@@ -0,0 +1,13 @@
+package go.xentany.goworlds.world.domain;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+public record WorldOperation(@NotNull String world, @NotNull String action, boolean running, long elapsedMillis) {
+
+  public WorldOperation {
+    Objects.requireNonNull(world, "world");
+    Objects.requireNonNull(action, "action");
+  }
+}
@@ -0,0 +1,12 @@
+package go.xentany.goworlds.world.domain;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+public record WorldPoolStatus(@NotNull String template, int ready, int leased, int warming, int target) {
+
+  public WorldPoolStatus {
+    Objects.requireNonNull(template, "template");
+  }
+}
@@ -1,6 +1,7 @@
 package go.xentany.goworlds.world.domain;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
 
@@ -9,19 +10,40 @@ public final class WorldRecord {
   private final String name;
   private final WorldEnvironment environment;
   private final String generator;
+  private final WorldLoadPriority priority;
+  private final boolean hibernates;
 
   private WorldRecord(final @NotNull String name,
                       final @NotNull WorldEnvironment environment,
-                      final @NotNull String generator) {
+                      final @NotNull String generator,
+                      final @NotNull WorldLoadPriority priority,
+                      final boolean hibernates) {
     this.name = Objects.requireNonNull(name, "name");
     this.environment = Objects.requireNonNull(environment, "environment");
     this.generator = Objects.requireNonNull(generator, "generator").trim();
+    this.priority = Objects.requireNonNull(priority, "priority");
+    this.hibernates = hibernates;
   }
 
   public static @NotNull WorldRecord of(final @NotNull String name,
                                         final @NotNull WorldEnvironment environment,
                                         final @NotNull String generator) {
-    return new WorldRecord(name, environment, generator);
+    return new WorldRecord(name, environment, generator, WorldLoadPriority.NORMAL, true);
+  }
+
+  public static @NotNull WorldRecord of(final @NotNull String name,
+                                        final @NotNull WorldEnvironment environment,
+                                        final @NotNull String generator,
+                                        final @NotNull WorldLoadPriority priority) {
+    return new WorldRecord(name, environment, generator, priority, true);
+  }
+
+  public static @NotNull WorldRecord of(final @NotNull String name,
+                                        final @NotNull WorldEnvironment environment,
+                                        final @NotNull String generator,
+                                        final @NotNull WorldLoadPriority priority,
+                                        final boolean hibernates) {
+    return new WorldRecord(name, environment, generator, priority, hibernates);
   }
 
   public @NotNull String name() {
@@ -35,4 +57,40 @@ public final class WorldRecord {
   public @NotNull String generator() {
     return generator;
   }
+
+  public @NotNull WorldLoadPriority priority() {
+    return priority;
+  }
+
+  public boolean hibernates() {
+    return hibernates;
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object object) {
+    if (this == object) {
+      return true;
+    }
+
+    if (!(object instanceof final WorldRecord other)) {
+      return false;
+    }
+
+    return name.equals(other.name)
+        && environment == other.environment
+        && generator.equals(other.generator)
+        && priority == other.priority
+        && hibernates == other.hibernates;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(name, environment, generator, priority, hibernates);
+  }
+
+  @Override
+  public @NotNull String toString() {
+    return "WorldRecord[name=" + name + ", environment=" + environment + ", generator=" + generator
+        + ", priority=" + priority + ", hibernates=" + hibernates + "]";
+  }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package go.xentany.goworlds.world.domain;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+public record WorldRecordDiff(@NotNull List<WorldRecord> added,
+                              @NotNull List<WorldRecord> removed,
+                              @NotNull List<WorldRecord> changed) {
+
+  public static final WorldRecordDiff EMPTY = new WorldRecordDiff(List.of(), List.of(), List.of());
+
+  public WorldRecordDiff(final @NotNull List<WorldRecord> added,
+                         final @NotNull List<WorldRecord> removed,
+                         final @NotNull List<WorldRecord> changed) {
+    this.added = List.copyOf(Objects.requireNonNull(added, "added"));
+    this.removed = List.copyOf(Objects.requireNonNull(removed, "removed"));
+    this.changed = List.copyOf(Objects.requireNonNull(changed, "changed"));
+  }
+
+  public static @NotNull WorldRecordDiff between(final @NotNull Collection<WorldRecord> current,
+                                                 final @NotNull Collection<WorldRecord> next) {
+    Objects.requireNonNull(current, "current");
+    Objects.requireNonNull(next, "next");
+
+    final var remaining = new LinkedHashMap<String, WorldRecord>(Math.max(16, current.size() * 2));
+
+    for (final var record : current) {
+      remaining.put(record.name().toLowerCase(Locale.ROOT), record);
+    }
+
+    final var added = new ArrayList<WorldRecord>();
+    final var changed = new ArrayList<WorldRecord>();
+
+    for (final var record : next) {
+      final var previous = remaining.remove(record.name().toLowerCase(Locale.ROOT));
+
+      if (previous == null) {
+        added.add(record);
+      } else if (!previous.equals(record)) {
+        changed.add(record);
+      }
+    }
+
+    if (added.isEmpty() && changed.isEmpty() && remaining.isEmpty()) {
+      return EMPTY;
+    }
+
+    return new WorldRecordDiff(added, new ArrayList<>(remaining.values()), changed);
+  }
+
+  public boolean isEmpty() {
+    return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+  }
+}
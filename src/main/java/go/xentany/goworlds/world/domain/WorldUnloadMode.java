@@ -0,0 +1,25 @@
+package go.xentany.goworlds.world.domain;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+
+public enum WorldUnloadMode {
+
+  SAVE,
+  DISCARD,
+  DRAIN;
+
+  public boolean saves() {
+    return this != DISCARD;
+  }
+
+  public static @Nullable WorldUnloadMode fromName(final @Nullable String input) {
+    return input == null ? null : switch (input.toLowerCase(Locale.ROOT)) {
+      case "save", "true" -> SAVE;
+      case "discard", "false" -> DISCARD;
+      case "drain" -> DRAIN;
+      default -> null;
+    };
+  }
+}
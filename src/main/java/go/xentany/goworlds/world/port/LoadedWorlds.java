@@ -0,0 +1,12 @@
+package go.xentany.goworlds.world.port;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.NavigableSet;
+
+public interface LoadedWorlds {
+
+  boolean isLoaded(final @NotNull String name);
+
+  @NotNull NavigableSet<String> names();
+}
@@ -0,0 +1,29 @@
+package go.xentany.goworlds.world.port;
+
+import go.xentany.goworlds.world.domain.WorldPoolStatus;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Warm pools of pre-loaded copies of template worlds.
+ *
+ * <p>All methods must be called on the server thread. {@link #acquire(String)} never waits for a
+ * world to load: it returns a ready instance or nothing, and refilling happens in the background.
+ * A released instance is unloaded without saving, reset from its template and loaded again.
+ * {@link #owns(String)} tells whether a world is an instance of any pool, whatever its state.
+ */
+public interface WorldPools {
+
+  @NotNull Optional<World> acquire(final @NotNull String template);
+
+  boolean release(final @NotNull String world);
+
+  boolean owns(final @NotNull String world);
+
+  @NotNull List<String> templates();
+
+  @NotNull List<WorldPoolStatus> status();
+}
@@ -3,12 +3,32 @@ package go.xentany.goworlds.world.port;
 import org.jetbrains.annotations.NotNull;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
 
 public interface WorldsDirectory {
 
   @NotNull Path pathOf(final @NotNull String name);
 
+  @NotNull Path templateOf(final @NotNull String name);
+
   boolean looksLikeWorld(final @NotNull Path folder);
 
   boolean deleteRecursively(final @NotNull Path root);
+
+  @NotNull Optional<Path> moveToTrash(final @NotNull Path folder);
+
+  @NotNull CompletableFuture<Boolean> copy(final @NotNull Path source, final @NotNull Path target);
+
+  @NotNull CompletableFuture<Boolean> snapshot(final @NotNull String name, final @NotNull String snapshot);
+
+  @NotNull CompletableFuture<OptionalInt> restore(final @NotNull String name, final @NotNull String snapshot);
+
+  @NotNull List<String> snapshots(final @NotNull String name);
+
+  @NotNull CompletableFuture<Boolean> purge(final @NotNull Path root);
+
+  @NotNull CompletableFuture<Boolean> purgeTrash();
 }
\ No newline at end of file
@@ -1,18 +1,45 @@
 package go.xentany.goworlds.world.port;
 
 import go.xentany.goworlds.world.domain.WorldRecord;
+import go.xentany.goworlds.world.domain.WorldRecordDiff;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+/**
+ * Storage of managed world records.
+ *
+ * <p>Concurrency contract: every method may be called from any thread. Reads ({@link #worlds},
+ * {@link #optionalWorld}, {@link #isManaged}) never block and observe an immutable snapshot that
+ * was published atomically by the last completed mutation; returned collections are never
+ * modified afterwards. {@link #complete} never blocks either and reads a concurrently maintained
+ * sorted index, so it is weakly consistent with in-flight mutations. Mutations and persistence
+ * ({@link #load}, {@link #save}, {@link #flush}, {@link #upsert}, {@link #remove},
+ * {@link #reconcile}) are serialized by the implementation. {@link #reconcile} publishes the whole
+ * diff as a single snapshot, so readers see either the old or the new set of records.
+ * {@link #close} releases the underlying storage after the final {@link #flush}.
+ */
 public interface WorldsRepository {
 
   void load();
 
   void save();
 
-  @NotNull Collection<WorldRecord> worlds(final boolean requireLoaded, final boolean requireUnloaded);
+  default void flush() {
+    save();
+  }
+
+  default void close() {}
+
+  @NotNull @Unmodifiable Collection<WorldRecord> worlds(final boolean requireLoaded, final boolean requireUnloaded);
+
+  @NotNull List<String> complete(final @NotNull String prefix,
+                                 final boolean requireLoaded,
+                                 final boolean requireUnloaded,
+                                 final int limit);
 
   @NotNull Optional<WorldRecord> optionalWorld(final @NotNull String name);
 
@@ -20,5 +47,7 @@ public interface WorldsRepository {
 
   boolean remove(final @NotNull String name);
 
+  @NotNull WorldRecordDiff reconcile(final @NotNull Collection<WorldRecord> records);
+
   boolean isManaged(final @NotNull String name);
-}
\ No newline at end of file
+}
@@ -1,12 +1,31 @@
 package go.xentany.goworlds.world.port;
 
+import go.xentany.goworlds.world.domain.WorldDeletion;
 import go.xentany.goworlds.world.domain.WorldEnvironment;
+import go.xentany.goworlds.world.domain.WorldOperation;
 import go.xentany.goworlds.world.domain.WorldRecord;
+import go.xentany.goworlds.world.domain.WorldUnloadMode;
+import org.bukkit.Location;
 import org.bukkit.World;
+import org.bukkit.entity.Entity;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
+/**
+ * Lifecycle of managed worlds.
+ *
+ * <p>The synchronous methods must be called on the server thread. The {@code *Async} methods may be
+ * called from any thread: file system checks and persistence run on the worker executor and only
+ * the Bukkit calls hop to the server thread. Their futures may complete on either thread and never
+ * complete exceptionally; failures are logged and reported as an empty or {@code false} result.
+ * Async operations on the same world run one at a time in submission order, and an operation
+ * identical to the last one queued or running for that world is shared instead of being started
+ * again. {@link #loadWorld} joins the same order: it runs only when nothing is queued for the world
+ * and returns {@code false} otherwise.
+ */
 public interface WorldsService {
 
   @NotNull Optional<World> createWorld(final @NotNull String name,
@@ -21,7 +40,43 @@ public interface WorldsService {
 
   boolean unloadWorld(final @NotNull String name, final boolean save);
 
-  boolean deleteWorld(final @NotNull String name);
+  @NotNull WorldDeletion deleteWorld(final @NotNull String name);
+
+  @NotNull CompletableFuture<Optional<World>> createWorldAsync(final @NotNull String name,
+                                                              final @NotNull WorldEnvironment environment,
+                                                              final @NotNull String generator);
+
+  @NotNull CompletableFuture<Optional<World>> importWorldAsync(final @NotNull String name,
+                                                              final @NotNull WorldEnvironment environment,
+                                                              final @NotNull String generator);
+
+  @NotNull CompletableFuture<Optional<World>> cloneWorldAsync(final @NotNull String source, final @NotNull String name);
+
+  @NotNull CompletableFuture<Boolean> loadWorldAsync(final @NotNull WorldRecord record);
+
+  @NotNull CompletableFuture<Boolean> unloadWorldAsync(final @NotNull String name, final @NotNull WorldUnloadMode mode);
+
+  default @NotNull CompletableFuture<Boolean> unloadWorldAsync(final @NotNull String name, final boolean save) {
+    return unloadWorldAsync(name, save ? WorldUnloadMode.SAVE : WorldUnloadMode.DISCARD);
+  }
+
+  @NotNull WorldDeletion deleteWorldAsync(final @NotNull String name);
+
+  @NotNull CompletableFuture<Boolean> snapshotWorldAsync(final @NotNull String name, final @NotNull String snapshot);
+
+  @NotNull CompletableFuture<Boolean> resetWorldAsync(final @NotNull String name, final @NotNull String snapshot);
+
+  @NotNull List<String> snapshots(final @NotNull String name);
+
+  @NotNull CompletableFuture<Boolean> teleportAsync(final @NotNull Entity target, final @NotNull Location destination);
+
+  @NotNull CompletableFuture<Boolean> teleportAsync(final @NotNull Entity target, final @NotNull String world);
+
+  @NotNull List<WorldOperation> operations();
+
+  boolean setHibernates(final @NotNull String name, final boolean hibernates);
 
   @NotNull WorldsRepository repository();
+
+  @NotNull LoadedWorlds loadedWorlds();
 }
\ No newline at end of file
@@ -0,0 +1,146 @@
+package go.xentany.goworlds.world.adapter.bukkit.service;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public final class WorldOperationQueueTest {
+
+  private ExecutorService executor;
+  private WorldOperationQueue queue;
+
+  @Before
+  public void setUp() {
+    executor = Executors.newFixedThreadPool(2);
+    queue = new WorldOperationQueue(executor);
+  }
+
+  @After
+  public void tearDown() throws InterruptedException {
+    executor.shutdownNow();
+    executor.awaitTermination(5L, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void sharesRepeatedTailAction() {
+    final var gate = new CompletableFuture<Boolean>();
+    final var runs = new AtomicInteger();
+
+    final var first = queue.submit("world", "load", () -> {
+      runs.incrementAndGet();
+
+      return gate;
+    });
+    final var second = queue.submit("WORLD", "load", () -> {
+      runs.incrementAndGet();
+
+      return CompletableFuture.completedFuture(false);
+    });
+
+    gate.complete(true);
+
+    assertSame(first, second);
+    assertEquals(true, second.join());
+    assertEquals(1, runs.get());
+  }
+
+  @Test
+  public void doesNotMergeAcrossConflictingAction() {
+    final var gate = new CompletableFuture<Boolean>();
+    final List<String> order = new CopyOnWriteArrayList<>();
+
+    final var load = queue.submit("world", "load", () -> {
+      order.add("load");
+
+      return gate;
+    });
+    final var unload = queue.submit("world", "unload save", () -> {
+      order.add("unload");
+
+      return CompletableFuture.completedFuture(true);
+    });
+    final var reload = queue.submit("world", "load", () -> {
+      order.add("load");
+
+      return CompletableFuture.completedFuture(true);
+    });
+
+    gate.complete(true);
+    reload.join();
+
+    assertNotSame(load, reload);
+    assertEquals(true, unload.join());
+    assertEquals(List.of("load", "unload", "load"), order);
+  }
+
+  @Test
+  public void startsOperationsOutsideTheLock() {
+    final var held = queue.submit("world", "load",
+        () -> CompletableFuture.completedFuture(Thread.holdsLock(queue))).join();
+
+    assertFalse(held);
+  }
+
+  @Test
+  public void continuesAfterFailedOperation() {
+    final var failed = queue.submit("world", "delete",
+        () -> CompletableFuture.<Boolean>failedFuture(new IllegalStateException("boom")));
+    final var next = queue.submit("world", "load", () -> CompletableFuture.completedFuture(true));
+
+    assertEquals(true, next.join());
+    assertTrue(failed.isCompletedExceptionally());
+  }
+
+  @Test
+  public void forgetsFinishedOperations() throws InterruptedException {
+    queue.submit("world", "load", () -> CompletableFuture.completedFuture(true)).join();
+
+    final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+
+    while (!queue.operations().isEmpty() && System.nanoTime() < deadline) {
+      Thread.sleep(1L);
+    }
+
+    assertEquals(List.of(), queue.operations());
+
+    final var again = queue.submit("world", "load", () -> CompletableFuture.completedFuture(false));
+
+    assertEquals(false, again.join());
+  }
+
+  @Test
+  public void runsInlineWhenIdle() {
+    final var result = queue.runIfIdle("world", "load", () -> queue.operations().size());
+
+    assertEquals(Optional.of(1), result);
+    assertEquals(List.of(), queue.operations());
+  }
+
+  @Test
+  public void refusesInlineRunWhileQueued() {
+    final var gate = new CompletableFuture<Boolean>();
+    final var delete = queue.submit("world", "delete", () -> gate);
+
+    final var result = queue.runIfIdle("WORLD", "load", () -> true);
+
+    gate.complete(true);
+    delete.join();
+
+    assertEquals(Optional.empty(), result);
+  }
+}
@@ -0,0 +1,244 @@
+package go.xentany.goworlds.world.adapter.storage;
+
+import go.xentany.goworlds.world.domain.WorldEnvironment;
+import go.xentany.goworlds.world.domain.WorldRecord;
+import go.xentany.goworlds.world.port.LoadedWorlds;
+import org.jetbrains.annotations.NotNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.helpers.NOPLogger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class JournalWorldsRepositoryTest {
+
+  private static final LoadedWorlds NONE_LOADED = new LoadedWorlds() {
+
+    @Override
+    public boolean isLoaded(final @NotNull String name) {
+      return false;
+    }
+
+    @Override
+    public @NotNull NavigableSet<String> names() {
+      return new TreeSet<>();
+    }
+  };
+
+  private Path folder;
+  private Path snapshot;
+  private Path journal;
+
+  @Before
+  public void setUp() throws IOException {
+    folder = Files.createTempDirectory("goworlds-journal");
+    snapshot = folder.resolve("worlds.snapshot");
+    journal = folder.resolve("worlds.journal");
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    try (final Stream<Path> paths = Files.walk(folder)) {
+      for (final var path : paths.sorted(Comparator.reverseOrder()).toList()) {
+        Files.deleteIfExists(path);
+      }
+    }
+  }
+
+  @Test
+  public void discardsTornTail() throws IOException {
+    write("alpha", "beta");
+
+    final var intact = Files.size(journal);
+
+    Files.write(journal, new byte[] {0, 0, 0, 42, 1, 2, 3}, StandardOpenOption.APPEND);
+
+    final var repository = open();
+
+    try {
+      assertTrue(repository.isManaged("alpha"));
+      assertTrue(repository.isManaged("beta"));
+      assertEquals(intact, Files.size(journal));
+    } finally {
+      repository.close();
+    }
+  }
+
+  @Test
+  public void stopsReplayAtChecksumMismatch() throws IOException {
+    write("alpha", "beta");
+
+    final var bytes = Files.readAllBytes(journal);
+
+    bytes[bytes.length - 1] ^= 0x5A;
+    Files.write(journal, bytes);
+
+    final var repository = open();
+
+    try {
+      assertTrue(repository.isManaged("alpha"));
+      assertFalse(repository.isManaged("beta"));
+      assertTrue(Files.size(journal) < bytes.length);
+    } finally {
+      repository.close();
+    }
+  }
+
+  @Test
+  public void appendsAfterRecoveredTail() throws IOException {
+    write("alpha");
+    Files.write(journal, new byte[] {0, 0}, StandardOpenOption.APPEND);
+
+    final var recovered = open();
+
+    try {
+      recovered.upsert(WorldRecord.of("gamma", WorldEnvironment.NORMAL, ""));
+    } finally {
+      recovered.close();
+    }
+
+    final var reopened = open();
+
+    try {
+      assertTrue(reopened.isManaged("alpha"));
+      assertTrue(reopened.isManaged("gamma"));
+    } finally {
+      reopened.close();
+    }
+  }
+
+  @Test
+  public void compactsIntoSnapshotAndTruncatesJournal() throws IOException {
+    final var repository = open();
+
+    try {
+      repository.upsert(WorldRecord.of("alpha", WorldEnvironment.NORMAL, ""));
+      repository.upsert(WorldRecord.of("beta", WorldEnvironment.NETHER, ""));
+      repository.remove("alpha");
+      repository.flush();
+
+      assertTrue(Files.exists(snapshot));
+      assertEquals(Integer.BYTES, Files.size(journal));
+    } finally {
+      repository.close();
+    }
+
+    final var reopened = open();
+
+    try {
+      assertFalse(reopened.isManaged("alpha"));
+      assertEquals(WorldEnvironment.NETHER, reopened.optionalWorld("beta").orElseThrow().environment());
+    } finally {
+      reopened.close();
+    }
+  }
+
+  @Test
+  public void compactsOnSaveAtThreshold() throws IOException {
+    final var repository = open();
+
+    try {
+      for (int index = 0; index < 16; index++) {
+        repository.upsert(WorldRecord.of("world" + index, WorldEnvironment.NORMAL, ""));
+      }
+
+      repository.save();
+
+      assertEquals(Integer.BYTES, Files.size(journal));
+    } finally {
+      repository.close();
+    }
+
+    final var reopened = open();
+
+    try {
+      assertEquals(16, reopened.worlds(true, true).size());
+    } finally {
+      reopened.close();
+    }
+  }
+
+  @Test
+  public void replaysJournalAfterCrashBeforeTruncate() throws IOException {
+    final var repository = open();
+    final byte[] uncompacted;
+
+    try {
+      repository.upsert(WorldRecord.of("alpha", WorldEnvironment.NORMAL, ""));
+      repository.upsert(WorldRecord.of("beta", WorldEnvironment.NORMAL, ""));
+      repository.remove("alpha");
+      uncompacted = Files.readAllBytes(journal);
+      repository.flush();
+    } finally {
+      repository.close();
+    }
+
+    Files.write(journal, uncompacted);
+
+    final var reopened = open();
+
+    try {
+      assertFalse(reopened.isManaged("alpha"));
+      assertTrue(reopened.isManaged("beta"));
+      assertEquals(1, reopened.worlds(true, true).size());
+    } finally {
+      reopened.close();
+    }
+  }
+
+  @Test
+  public void ignoresSnapshotTempLeftByCrash() throws IOException {
+    write("alpha");
+    Files.write(folder.resolve("journal123.tmp"), new byte[] {0x47, 0x57});
+
+    final var reopened = open();
+
+    try {
+      assertTrue(reopened.isManaged("alpha"));
+
+      reopened.flush();
+    } finally {
+      reopened.close();
+    }
+
+    final var compacted = open();
+
+    try {
+      assertTrue(compacted.isManaged("alpha"));
+    } finally {
+      compacted.close();
+    }
+  }
+
+  private void write(final @NotNull String @NotNull ... names) {
+    final var repository = open();
+
+    try {
+      for (final var name : names) {
+        repository.upsert(WorldRecord.of(name, WorldEnvironment.NORMAL, ""));
+      }
+    } finally {
+      repository.close();
+    }
+  }
+
+  private @NotNull JournalWorldsRepository open() {
+    final var repository = new JournalWorldsRepository(snapshot, journal, NOPLogger.NOP_LOGGER, NONE_LOADED, 16);
+
+    repository.load();
+
+    return repository;
+  }
+}
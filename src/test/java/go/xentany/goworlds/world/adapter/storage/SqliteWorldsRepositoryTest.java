@@ -0,0 +1,163 @@
+package go.xentany.goworlds.world.adapter.storage;
+
+import go.xentany.goworlds.config.YamlConfigService;
+import go.xentany.goworlds.world.domain.WorldEnvironment;
+import go.xentany.goworlds.world.domain.WorldLoadPriority;
+import go.xentany.goworlds.world.domain.WorldRecord;
+import go.xentany.goworlds.world.port.LoadedWorlds;
+import org.jetbrains.annotations.NotNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.helpers.NOPLogger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class SqliteWorldsRepositoryTest {
+
+  private static final LoadedWorlds NONE_LOADED = new LoadedWorlds() {
+
+    @Override
+    public boolean isLoaded(final @NotNull String name) {
+      return false;
+    }
+
+    @Override
+    public @NotNull NavigableSet<String> names() {
+      return new TreeSet<>();
+    }
+  };
+
+  private Path folder;
+  private Path database;
+  private Path yamlFile;
+
+  @Before
+  public void setUp() throws IOException {
+    folder = Files.createTempDirectory("goworlds-sqlite");
+    database = folder.resolve("worlds.db");
+    yamlFile = folder.resolve("worlds.yml");
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    try (final Stream<Path> paths = Files.walk(folder)) {
+      for (final var path : paths.sorted(Comparator.reverseOrder()).toList()) {
+        Files.deleteIfExists(path);
+      }
+    }
+  }
+
+  @Test
+  public void migratesYamlEntries() throws IOException {
+    Files.writeString(yamlFile, """
+        entries:
+        - name: alpha
+          environment: NETHER
+          generator: ''
+          priority: HIGH
+          hibernate: false
+        - name: beta
+          environment: NORMAL
+          generator: ''
+          priority: NORMAL
+          hibernate: true
+        """, StandardCharsets.UTF_8);
+
+    final var repository = open();
+
+    try {
+      assertEquals(2, YamlSchemaMigrator.migrate(yamlFile, new YamlConfigService(NOPLogger.NOP_LOGGER), repository));
+      assertFalse(Files.exists(yamlFile));
+      assertTrue(Files.exists(folder.resolve("worlds.yml.migrated")));
+    } finally {
+      repository.close();
+    }
+
+    final var reopened = open();
+
+    try {
+      final var alpha = reopened.optionalWorld("alpha").orElseThrow();
+
+      assertEquals(WorldEnvironment.NETHER, alpha.environment());
+      assertEquals(WorldLoadPriority.HIGH, alpha.priority());
+      assertFalse(alpha.hibernates());
+      assertTrue(reopened.isManaged("beta"));
+    } finally {
+      reopened.close();
+    }
+  }
+
+  @Test
+  public void skipsMigrationIntoPopulatedDatabase() throws IOException {
+    Files.writeString(yamlFile, "entries:\n- name: alpha\n  environment: NORMAL\n", StandardCharsets.UTF_8);
+
+    final var repository = open();
+
+    try {
+      repository.upsert(WorldRecord.of("existing", WorldEnvironment.NORMAL, ""));
+      repository.save();
+
+      assertEquals(0, YamlSchemaMigrator.migrate(yamlFile, new YamlConfigService(NOPLogger.NOP_LOGGER), repository));
+      assertTrue(Files.exists(yamlFile));
+      assertFalse(repository.isManaged("alpha"));
+    } finally {
+      repository.close();
+    }
+  }
+
+  @Test
+  public void addsHibernateColumnToOldSchema() throws SQLException {
+    try (final var connection = DriverManager.getConnection("jdbc:sqlite:" + database.toAbsolutePath());
+         final var statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE worlds (name_key TEXT PRIMARY KEY NOT NULL, name TEXT NOT NULL, "
+          + "environment TEXT NOT NULL, generator TEXT NOT NULL, priority TEXT NOT NULL)");
+      statement.execute("CREATE INDEX worlds_environment ON worlds (environment)");
+      statement.execute("INSERT INTO worlds VALUES ('alpha', 'Alpha', 'NORMAL', '', 'LOW')");
+    }
+
+    final var repository = open();
+
+    try {
+      final var alpha = repository.optionalWorld("alpha").orElseThrow();
+
+      assertEquals("Alpha", alpha.name());
+      assertEquals(WorldLoadPriority.LOW, alpha.priority());
+      assertTrue(alpha.hibernates());
+
+      repository.upsert(WorldRecord.of("Alpha", WorldEnvironment.NORMAL, "", WorldLoadPriority.LOW, false));
+      repository.save();
+    } finally {
+      repository.close();
+    }
+
+    final var reopened = open();
+
+    try {
+      assertFalse(reopened.optionalWorld("alpha").orElseThrow().hibernates());
+    } finally {
+      reopened.close();
+    }
+  }
+
+  private @NotNull SqliteWorldsRepository open() {
+    final var repository = new SqliteWorldsRepository(database, NOPLogger.NOP_LOGGER, NONE_LOADED);
+
+    repository.load();
+
+    return repository;
+  }
+}
@@ -0,0 +1,80 @@
+package go.xentany.goworlds.world.adapter.storage;
+
+import go.xentany.goworlds.world.domain.WorldEnvironment;
+import go.xentany.goworlds.world.domain.WorldRecord;
+import go.xentany.goworlds.world.port.LoadedWorlds;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public final class WorldRecordIndexTest {
+
+  private static final LoadedWorlds NONE_LOADED = new LoadedWorlds() {
+
+    @Override
+    public boolean isLoaded(final @NotNull String name) {
+      return false;
+    }
+
+    @Override
+    public @NotNull NavigableSet<String> names() {
+      return new TreeSet<>();
+    }
+  };
+
+  private final WorldRecordIndex index = new WorldRecordIndex(NONE_LOADED);
+
+  @Test
+  public void keepsInsertionOrderAcrossBatchedChanges() {
+    index.upsert(record("alpha"));
+    index.upsert(record("beta"));
+    index.upsert(record("gamma"));
+    index.remove("BETA");
+    index.upsert(record("alpha"));
+
+    assertEquals(List.of("alpha", "gamma"), names());
+    assertEquals(2, index.size());
+    assertTrue(index.isManaged("Gamma"));
+    assertFalse(index.isManaged("beta"));
+  }
+
+  @Test
+  public void reusesValuesUntilNextChange() {
+    index.upsert(record("alpha"));
+
+    final var first = index.values();
+
+    assertSame(first, index.values());
+
+    index.upsert(record("beta"));
+
+    assertEquals(List.of("alpha", "beta"), names());
+    assertEquals(List.of("alpha"), first.stream().map(WorldRecord::name).toList());
+  }
+
+  @Test
+  public void replaceSwapsWholeContent() {
+    index.upsert(record("alpha"));
+    index.replace(List.of(record("beta"), record("gamma")));
+
+    assertEquals(List.of("beta", "gamma"), names());
+    assertFalse(index.optionalWorld("alpha").isPresent());
+    assertEquals(List.of("gamma"), index.complete("g", false, false, 10));
+  }
+
+  private @NotNull List<String> names() {
+    return index.values().stream().map(WorldRecord::name).toList();
+  }
+
+  private static @NotNull WorldRecord record(final @NotNull String name) {
+    return WorldRecord.of(name, WorldEnvironment.NORMAL, "");
+  }
+}
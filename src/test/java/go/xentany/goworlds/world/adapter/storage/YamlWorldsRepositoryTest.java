@@ -0,0 +1,166 @@
+package go.xentany.goworlds.world.adapter.storage;
+
+import go.xentany.goworlds.config.YamlConfigService;
+import go.xentany.goworlds.world.domain.WorldEnvironment;
+import go.xentany.goworlds.world.domain.WorldRecord;
+import go.xentany.goworlds.world.port.LoadedWorlds;
+import org.jetbrains.annotations.NotNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.helpers.NOPLogger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class YamlWorldsRepositoryTest {
+
+  private static final LoadedWorlds NONE_LOADED = new LoadedWorlds() {
+
+    @Override
+    public boolean isLoaded(final @NotNull String name) {
+      return false;
+    }
+
+    @Override
+    public @NotNull NavigableSet<String> names() {
+      return new TreeSet<>();
+    }
+  };
+
+  private Path folder;
+  private Path file;
+  private YamlConfigService yaml;
+
+  @Before
+  public void setUp() throws IOException {
+    folder = Files.createTempDirectory("goworlds-yaml");
+    file = folder.resolve("worlds.yml");
+    yaml = new YamlConfigService(NOPLogger.NOP_LOGGER);
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    try (final Stream<Path> paths = Files.walk(folder)) {
+      for (final var path : paths.sorted(Comparator.reverseOrder()).toList()) {
+        Files.deleteIfExists(path);
+      }
+    }
+  }
+
+  @Test
+  public void syncKeepsUnsavedCreate() throws IOException {
+    final var repository = open(true);
+
+    repository.upsert(record("alpha"));
+    repository.save();
+    repository.upsert(record("fresh"));
+    edit("alpha", "external");
+
+    final var diff = repository.sync();
+
+    assertEquals(1, diff.added().size());
+    assertTrue(repository.isManaged("external"));
+    assertTrue(repository.isManaged("fresh"));
+  }
+
+  @Test
+  public void saveMergesExternalEditFirst() throws IOException {
+    final var repository = open(true);
+
+    repository.upsert(record("alpha"));
+    repository.save();
+    edit("alpha", "external");
+    repository.upsert(record("fresh"));
+    repository.save();
+
+    final var reopened = open(true);
+
+    assertTrue(reopened.isManaged("alpha"));
+    assertTrue(reopened.isManaged("external"));
+    assertTrue(reopened.isManaged("fresh"));
+  }
+
+  @Test
+  public void saveOverwritesExternalEditWithoutWatch() throws IOException {
+    final var repository = open(false);
+
+    repository.upsert(record("alpha"));
+    repository.save();
+    edit("alpha", "external");
+    repository.upsert(record("fresh"));
+    repository.save();
+
+    final var reopened = open(false);
+
+    assertTrue(reopened.isManaged("fresh"));
+    assertFalse(reopened.isManaged("external"));
+  }
+
+  @Test
+  public void saveBacksUpInvalidExternalEdit() throws IOException {
+    final var repository = open(true);
+
+    repository.upsert(record("alpha"));
+    repository.save();
+    edit("alpha", "alpha");
+    repository.upsert(record("fresh"));
+    repository.save();
+
+    final var backup = folder.resolve("worlds.yml.bak");
+
+    assertTrue(Files.exists(backup));
+    assertEquals(2, occurrences(Files.readString(backup, StandardCharsets.UTF_8), "name: alpha"));
+
+    final var reopened = open(true);
+
+    assertTrue(reopened.isManaged("alpha"));
+    assertTrue(reopened.isManaged("fresh"));
+  }
+
+  private @NotNull YamlWorldsRepository open(final boolean mergeExternal) {
+    final var repository = new YamlWorldsRepository(file, yaml, NONE_LOADED, NOPLogger.NOP_LOGGER, mergeExternal);
+
+    repository.load();
+
+    return repository;
+  }
+
+  private void edit(final @NotNull String @NotNull ... names) throws IOException {
+    final var out = new StringBuilder("entries:\n");
+
+    for (final var name : names) {
+      out.append("- name: ").append(name).append('\n')
+          .append("  environment: NORMAL\n")
+          .append("  generator: ''\n")
+          .append("  priority: NORMAL\n")
+          .append("  hibernate: true\n");
+    }
+
+    Files.writeString(file, out, StandardCharsets.UTF_8);
+  }
+
+  private static @NotNull WorldRecord record(final @NotNull String name) {
+    return WorldRecord.of(name, WorldEnvironment.NORMAL, "");
+  }
+
+  private static int occurrences(final @NotNull String text, final @NotNull String needle) {
+    var count = 0;
+
+    for (int index = text.indexOf(needle); index >= 0; index = text.indexOf(needle, index + 1)) {
+      count++;
+    }
+
+    return count;
+  }
+}